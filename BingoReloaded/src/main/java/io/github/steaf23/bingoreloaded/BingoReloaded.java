@@ -8,11 +8,15 @@ import io.github.steaf23.bingoreloaded.data.BingoMessage;
 import io.github.steaf23.bingoreloaded.data.BingoStatData;
 import io.github.steaf23.bingoreloaded.data.BingoStatType;
 import io.github.steaf23.bingoreloaded.data.ConfigData;
+import io.github.steaf23.bingoreloaded.data.TaskCatalog;
 import io.github.steaf23.bingoreloaded.data.TexturedMenuData;
 import io.github.steaf23.bingoreloaded.data.TeamData;
 import io.github.steaf23.bingoreloaded.data.helper.SerializablePlayer;
 import io.github.steaf23.bingoreloaded.data.helper.YmlDataManager;
 import io.github.steaf23.bingoreloaded.data.world.WorldData;
+import io.github.steaf23.bingoreloaded.event.PlayerLeftSessionWorldEvent;
+import io.github.steaf23.bingoreloaded.event.core.BingoEvent;
+import io.github.steaf23.bingoreloaded.event.core.BingoEventBus;
 import io.github.steaf23.bingoreloaded.gameloop.GameManager;
 import io.github.steaf23.bingoreloaded.gameloop.SingularGameManager;
 import io.github.steaf23.bingoreloaded.gui.inventory.BingoMenuBoard;
@@ -25,6 +29,8 @@ import io.github.steaf23.bingoreloaded.tasks.BingoStatistic;
 import io.github.steaf23.bingoreloaded.tasks.ItemTask;
 import io.github.steaf23.bingoreloaded.tasks.StatisticTask;
 import io.github.steaf23.bingoreloaded.util.bstats.Metrics;
+import io.github.steaf23.bingoreloaded.util.scheduler.BingoScheduler;
+import io.github.steaf23.bingoreloaded.util.scheduler.SchedulerTask;
 import io.github.steaf23.playerdisplay.PlayerDisplay;
 import io.github.steaf23.playerdisplay.inventory.BasicMenu;
 import io.github.steaf23.playerdisplay.scoreboard.HUDRegistry;
@@ -40,7 +46,6 @@ import org.bukkit.configuration.serialization.ConfigurationSerialization;
 import org.bukkit.entity.Player;
 import org.bukkit.event.HandlerList;
 import org.bukkit.plugin.java.JavaPlugin;
-import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.NotNull;
 
 import java.net.URI;
@@ -64,9 +69,12 @@ public class BingoReloaded extends JavaPlugin
     private static BingoReloaded INSTANCE;
 
     private ConfigData config;
+    private BingoScheduler scheduler;
+    private BingoEventBus eventBus;
     private GameManager gameManager;
     private BingoMenuBoard menuBoard;
     private TexturedMenuData textureData;
+    private BingoStatData statData;
 
     @Override
     public void onLoad() {
@@ -80,6 +88,7 @@ public class BingoReloaded extends JavaPlugin
         saveDefaultConfig();
         // Kinda ugly, but we can assume there will only be one instance of this class anyway.
         INSTANCE = this;
+        this.scheduler = BingoScheduler.create(this);
         PLACEHOLDER_API_ENABLED = Bukkit.getPluginManager().getPlugin("PlaceholderAPI") != null;
         if (PLACEHOLDER_API_ENABLED) {
             new BingoReloadedPlaceholderExpansion(this).register();
@@ -116,13 +125,19 @@ public class BingoReloaded extends JavaPlugin
         BasicMenu.pluginTitlePrefix = BingoMessage.MENU_PREFIX.asPhrase();
         WorldData.clearWorlds(this);
 
+        // Read all cards and lists up front so the first game does not have to.
+        TaskCatalog.get();
+
         this.textureData = new TexturedMenuData();
+        this.statData = BingoStatData.create(config.playerStatisticsStorage);
         this.menuBoard = new BingoMenuBoard();
+        this.eventBus = new BingoEventBus(config.callBukkitEvents);
+        eventBus.subscribe(PlayerLeftSessionWorldEvent.class, menuBoard::handlePlayerLeft);
         HUDRegistry hudRegistry = new HUDRegistry();
         if (config.configuration == ConfigData.PluginConfiguration.SINGULAR) {
-            this.gameManager = new SingularGameManager(this, config, menuBoard, hudRegistry);
+            this.gameManager = new SingularGameManager(this, config, menuBoard, hudRegistry, eventBus);
         } else {
-            this.gameManager = new GameManager(this, config, menuBoard, hudRegistry);
+            this.gameManager = new GameManager(this, config, menuBoard, hudRegistry, eventBus);
         }
 
         TabExecutor autoBingoCommand = new AutoBingoCommand(gameManager);
@@ -143,6 +158,7 @@ public class BingoReloaded extends JavaPlugin
 
         Bukkit.getPluginManager().registerEvents(menuBoard, this);
         Bukkit.getPluginManager().registerEvents(hudRegistry, this);
+        Bukkit.getPluginManager().registerEvents(statData, this);
 
         Metrics bStatsMetrics = new Metrics(this, 22586);
         bStatsMetrics.addCustomChart(new Metrics.SimplePie("selected_language", () -> {
@@ -171,33 +187,53 @@ public class BingoReloaded extends JavaPlugin
         }
 
         HandlerList.unregisterAll(menuBoard);
+        if (eventBus != null) {
+            eventBus.unsubscribeAll();
+        }
+        if (scheduler != null) {
+            scheduler.cancelAll();
+        }
+        if (statData != null) {
+            statData.close();
+        }
     }
 
     public ConfigData config() {
         return config;
     }
 
+    /**
+     * Call the event for all subscribers within the plugin, and for other plugins as a Bukkit event if enabled.
+     */
+    public static void callBingoEvent(BingoEvent event) {
+        INSTANCE.eventBus.call(event);
+    }
+
     public static void incrementPlayerStat(Player player, BingoStatType stat) {
         boolean savePlayerStatistics = INSTANCE.config.savePlayerStatistics;
         if (savePlayerStatistics) {
-            BingoStatData statsData = new BingoStatData();
-            statsData.incrementPlayerStat(player, stat);
+            INSTANCE.statData.incrementPlayerStat(player, stat);
         }
     }
 
     public static void setPlayerStat(Player player, BingoStatType stat, int value) {
         boolean savePlayerStatistics = INSTANCE.config.savePlayerStatistics;
         if (savePlayerStatistics) {
-            BingoStatData statsData = new BingoStatData();
-            statsData.setPlayerStat(player.getUniqueId(), stat, value);
+            INSTANCE.statData.setPlayerStat(player.getUniqueId(), stat, value);
+        }
+    }
+
+    public static void setPlayerStatIfHigher(Player player, BingoStatType stat, int value) {
+        boolean savePlayerStatistics = INSTANCE.config.savePlayerStatistics;
+        if (savePlayerStatistics) {
+            INSTANCE.statData.setPlayerStatIfHigher(player.getUniqueId(), stat, value);
         }
     }
 
     public static int getPlayerStat(Player player, BingoStatType stat) {
         boolean savePlayerStatistics = INSTANCE.config.savePlayerStatistics;
         if (savePlayerStatistics) {
-            BingoStatData statsData = new BingoStatData();
-            return statsData.getPlayerStat(player.getUniqueId(), stat);
+            return INSTANCE.statData.getPlayerStat(player.getUniqueId(), stat);
         }
         return 0;
     }
@@ -210,15 +246,16 @@ public class BingoReloaded extends JavaPlugin
         return INSTANCE;
     }
 
-    public static void scheduleTask(@NotNull Consumer<BukkitTask> task) {
+    public static BingoScheduler getScheduler() {
+        return INSTANCE.scheduler;
+    }
+
+    public static void scheduleTask(@NotNull Consumer<SchedulerTask> task) {
         BingoReloaded.scheduleTask(task, 0);
     }
 
-    public static void scheduleTask(@NotNull Consumer<BukkitTask> task, long delay) {
-        if (delay <= 0)
-            Bukkit.getScheduler().runTask(INSTANCE, task);
-        else
-            Bukkit.getScheduler().runTaskLater(INSTANCE, task, delay);
+    public static void scheduleTask(@NotNull Consumer<SchedulerTask> task, long delay) {
+        INSTANCE.scheduler.runGlobal(task, delay);
     }
 
     public static String getDefaultTasksVersion() {
@@ -248,4 +285,8 @@ public class BingoReloaded extends JavaPlugin
     public TexturedMenuData getTextureData() {
         return textureData;
     }
+
+    public BingoStatData getStatData() {
+        return statData;
+    }
 }
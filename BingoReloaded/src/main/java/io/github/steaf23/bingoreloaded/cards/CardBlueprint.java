@@ -0,0 +1,197 @@
+package io.github.steaf23.bingoreloaded.cards;
+
+import io.github.steaf23.bingoreloaded.data.TaskCatalog;
+import io.github.steaf23.bingoreloaded.tasks.ItemTask;
+import io.github.steaf23.bingoreloaded.tasks.TaskData;
+import io.github.steaf23.playerdisplay.util.ConsoleMessenger;
+import org.bukkit.Material;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Card of a specific size compiled from the task catalog, from which any amount of task layouts can be generated.
+ * Generating a layout only takes the tasks it needs from each list (using a partial Fisher-Yates shuffle),
+ * so the time it takes does not depend on the size of the lists.
+ * Layouts are deterministic: the same blueprint and seed will always result in the same tasks in the same positions.
+ */
+public final class CardBlueprint
+{
+    private static final TaskData DEFAULT_TASK = new ItemTask(Material.DIRT, 1);
+
+    private record Key(String cardName, CardSize size, boolean withStatistics, boolean withAdvancements)
+    {
+    }
+
+    private static final Map<Key, CardBlueprint> CACHE = new ConcurrentHashMap<>();
+
+    public final String cardName;
+    public final CardSize size;
+    private final int catalogVersion;
+    // Tasks of each list that has any tasks (shared with the catalog, never modified).
+    private final TaskData[][] lists;
+    private final String[] listNames;
+    // Amount of tasks each list will always get.
+    private final int[] minimumPicks;
+    // One entry per task that can be added on top of the minimums, holding the index of the list it will be picked from.
+    private final int[] overflowTickets;
+    private final int overflowPicks;
+
+    private CardBlueprint(TaskCatalog catalog, String cardName, CardSize size, boolean withStatistics, boolean withAdvancements) {
+        this.cardName = cardName;
+        this.size = size;
+        this.catalogVersion = catalog.getVersion();
+
+        TaskCatalog.Card card = catalog.getCard(cardName);
+        TaskCatalog.CardList[] cardLists = Arrays.stream(card.lists())
+                .filter(l -> catalog.getList(l.listName()).getTasks(withStatistics, withAdvancements).length > 0)
+                .toArray(TaskCatalog.CardList[]::new);
+
+        this.lists = new TaskData[cardLists.length][];
+        this.listNames = new String[cardLists.length];
+        for (int i = 0; i < cardLists.length; i++) {
+            lists[i] = catalog.getList(cardLists[i].listName()).getTasks(withStatistics, withAdvancements);
+            listNames[i] = cardLists[i].listName();
+        }
+
+        // Minimums are handed out to lists with the lowest minimum first, until the card is full.
+        this.minimumPicks = new int[cardLists.length];
+        int spacesLeft = size.fullCardSize;
+        for (TaskCatalog.CardList cardList : card.listsByMin()) {
+            int listIdx = indexOf(cardLists, cardList);
+            if (listIdx == -1) {
+                continue;
+            }
+            int picks = Math.min(Math.max(1, cardList.min()), spacesLeft);
+            minimumPicks[listIdx] = picks;
+            spacesLeft -= picks;
+        }
+
+        int overflowCount = 0;
+        for (TaskCatalog.CardList cardList : cardLists) {
+            overflowCount += Math.max(0, cardList.max() - Math.max(1, cardList.min()));
+        }
+        this.overflowTickets = new int[overflowCount];
+        int ticket = 0;
+        for (int i = 0; i < cardLists.length; i++) {
+            for (int j = 0; j < cardLists[i].max() - Math.max(1, cardLists[i].min()); j++) {
+                overflowTickets[ticket++] = i;
+            }
+        }
+        this.overflowPicks = Math.min(spacesLeft, overflowCount);
+    }
+
+    /**
+     * @return blueprint for the given card using the current task catalog, compiled again only if the catalog has changed.
+     */
+    public static @NotNull CardBlueprint get(String cardName, CardSize size, boolean withStatistics, boolean withAdvancements) {
+        TaskCatalog catalog = TaskCatalog.get();
+        Key key = new Key(cardName, size, withStatistics, withAdvancements);
+        CardBlueprint blueprint = CACHE.get(key);
+        if (blueprint == null || blueprint.catalogVersion != catalog.getVersion()) {
+            blueprint = compile(catalog, cardName, size, withStatistics, withAdvancements);
+            CACHE.put(key, blueprint);
+        }
+        return blueprint;
+    }
+
+    public static @NotNull CardBlueprint compile(TaskCatalog catalog, String cardName, CardSize size, boolean withStatistics, boolean withAdvancements) {
+        return new CardBlueprint(catalog, cardName, size, withStatistics, withAdvancements);
+    }
+
+    /**
+     * @param seed layouts generated with the same seed will be identical, use 0 for a random layout.
+     * @return tasks in the order they should be put on the card, always exactly as many as the card has spaces.
+     * If the card does not have enough tasks to fill all spaces, the remaining spaces will be filled using default tasks.
+     */
+    public @NotNull List<TaskData> generate(int seed) {
+        Random random = seed == 0 ? new Random() : new Random(seed);
+
+        // Draw overflow tickets without replacement, by partially shuffling a copy of the tickets.
+        int[] picks = minimumPicks.clone();
+        int[] tickets = overflowTickets.clone();
+        for (int i = 0; i < overflowPicks; i++) {
+            int j = i + random.nextInt(tickets.length - i);
+            int listIdx = tickets[j];
+            tickets[j] = tickets[i];
+            picks[listIdx]++;
+        }
+
+        TaskData[] result = new TaskData[size.fullCardSize];
+        int count = 0;
+        for (int listIdx = 0; listIdx < lists.length; listIdx++) {
+            TaskData[] list = lists[listIdx];
+            int k = picks[listIdx];
+            if (k > list.length) {
+                ConsoleMessenger.error("Task list '" + listNames[listIdx] + "' does not have enough tasks for card '" + cardName + "'.");
+                k = list.length;
+            }
+            count = sample(list, k, random, result, count);
+        }
+        while (count < result.length) {
+            result[count++] = DEFAULT_TASK;
+        }
+
+        // Shuffle the tasks to place them at random positions on the card.
+        for (int i = result.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            TaskData temp = result[i];
+            result[i] = result[j];
+            result[j] = temp;
+        }
+        return Arrays.asList(result);
+    }
+
+    /**
+     * Partial Fisher-Yates shuffle over the given list, without touching the list itself.
+     * Swapped positions are kept track of separately, which only takes space for k entries.
+     */
+    private static int sample(TaskData[] list, int k, Random random, TaskData[] into, int offset) {
+        int[] swappedFrom = new int[k];
+        int[] swappedTo = new int[k];
+        int swaps = 0;
+        for (int i = 0; i < k; i++) {
+            int j = i + random.nextInt(list.length - i);
+            int atJ = valueAt(j, swappedFrom, swappedTo, swaps);
+            int atI = valueAt(i, swappedFrom, swappedTo, swaps);
+            // Position i will never be looked at again, so only j has to remember what was swapped into it.
+            swaps = swap(j, atI, swappedFrom, swappedTo, swaps);
+            into[offset++] = list[atJ];
+        }
+        return offset;
+    }
+
+    private static int valueAt(int position, int[] swappedFrom, int[] swappedTo, int swaps) {
+        for (int s = 0; s < swaps; s++) {
+            if (swappedFrom[s] == position) {
+                return swappedTo[s];
+            }
+        }
+        return position;
+    }
+
+    private static int swap(int position, int value, int[] swappedFrom, int[] swappedTo, int swaps) {
+        for (int s = 0; s < swaps; s++) {
+            if (swappedFrom[s] == position) {
+                swappedTo[s] = value;
+                return swaps;
+            }
+        }
+        swappedFrom[swaps] = position;
+        swappedTo[swaps] = value;
+        return swaps + 1;
+    }
+
+    private static int indexOf(TaskCatalog.CardList[] lists, TaskCatalog.CardList list) {
+        for (int i = 0; i < lists.length; i++) {
+            if (lists[i].equals(list)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
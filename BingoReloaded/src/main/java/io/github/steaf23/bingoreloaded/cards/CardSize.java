@@ -20,6 +20,11 @@ public enum CardSize implements ComponentLike
 
     public final Set<Integer> taskSlots;
 
+    // Bit i is set for every task index i on the card.
+    public final long fullMask;
+    // Masks of all rows, columns and both diagonals, a team with all bits of any of these masks has a bingo.
+    public final long[] lineMasks;
+
     CardSize(int size, int leftSpacing)
     {
         this.size = size;
@@ -32,6 +37,19 @@ public enum CardSize implements ComponentLike
         {
             taskSlots.add(getCardInventorySlot(i));
         }
+
+        this.fullMask = fullCardSize == 64 ? -1L : (1L << fullCardSize) - 1;
+        this.lineMasks = new long[size * 2 + 2];
+        for (int y = 0; y < size; y++)
+        {
+            for (int x = 0; x < size; x++)
+            {
+                lineMasks[y] |= 1L << (size * y + x);
+                lineMasks[size + y] |= 1L << (size * x + y);
+            }
+            lineMasks[size * 2] |= 1L << (size * y + y);
+            lineMasks[size * 2 + 1] |= 1L << (size * y + (size - 1 - y));
+        }
     }
 
     public int getCardInventorySlot(int itemIndex)
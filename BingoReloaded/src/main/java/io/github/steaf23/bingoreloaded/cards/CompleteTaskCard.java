@@ -20,7 +20,7 @@ public class CompleteTaskCard extends TaskCard
 
     @Override
     public boolean hasTeamWon(@NotNull BingoTeam team) {
-        return getCompleteCount(team) == size.fullCardSize;
+        return getCompletedMask(team) == size.fullMask;
     }
 
     @Override
@@ -1,8 +1,9 @@
 package io.github.steaf23.bingoreloaded.cards;
 
-import io.github.steaf23.bingoreloaded.data.BingoCardData;
+import io.github.steaf23.bingoreloaded.BingoReloaded;
 import io.github.steaf23.bingoreloaded.data.BingoMessage;
 import io.github.steaf23.bingoreloaded.data.ConfigData;
+import io.github.steaf23.bingoreloaded.data.TaskCatalog;
 import io.github.steaf23.bingoreloaded.event.BingoPlaySoundEvent;
 import io.github.steaf23.bingoreloaded.gameloop.phase.BingoGame;
 import io.github.steaf23.bingoreloaded.gui.inventory.card.HotswapCardMenu;
@@ -17,15 +18,21 @@ import io.github.steaf23.playerdisplay.util.ConsoleMessenger;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.TextColor;
 import net.kyori.adventure.text.format.TextDecoration;
-import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.Sound;
+import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.Random;
+import java.util.UUID;
 import java.util.function.Supplier;
 
 public class HotswapTaskCard extends TaskCard
@@ -38,34 +45,55 @@ public class HotswapTaskCard extends TaskCard
     private final int maxExpirationTime;
     private final int recoveryTimeSeconds;
     private final boolean showExpirationAsDurability;
+    private final int taskHistorySize;
 
     private final List<HotswapTaskHolder> taskHolders;
+    // Tasks of the task holders, in the same order.
+    private final List<GameTask> tasks;
+    private final List<GameTask> tasksView;
     private Supplier<GameTask> bingoTaskGenerator;
+    private @Nullable HotswapTaskDeck deck;
 
-    private final List<GameTask> completedTasks;
-    private final BingoCardData cardData;
+    /**
+     * Moment at which the holder in the given slot expires or finishes recovering.
+     * Deadlines are not removed from the queue when the holder changes, so they are checked against the holder when they are reached instead.
+     */
+    private record Deadline(long time, int slot, HotswapTaskHolder holder)
+    {
+    }
+
+    // Seconds since this card started, the deadlines of the task holders use this clock.
+    private long clock;
+    private final PriorityQueue<Deadline> deadlines;
+    private boolean holdersChanged;
+
+    private final Map<BingoTeam, Integer> completedCountPerTeam;
+    private final Map<UUID, Integer> completedCountPerParticipant;
     // Used to call the play sound event for expiring tasks
     private final BingoGame game;
     private final TaskProgressTracker progressTracker;
 
-    // List used to draw random tasks from
-    private final List<TaskData> randomTasks;
-
     public HotswapTaskCard(@NotNull HotswapCardMenu menu, CardSize size, BingoGame game, TaskProgressTracker progressTracker, int winningScore, ConfigData.HotswapConfig config) {
         super(menu, size);
         this.taskTimer = game.getTimer();
         this.randomExpiryProvider = new Random();
         this.taskHolders = new ArrayList<>();
-        this.completedTasks = new ArrayList<>();
+        this.tasks = new ArrayList<>();
+        this.tasksView = Collections.unmodifiableList(tasks);
+        this.completedCountPerTeam = new HashMap<>();
+        this.completedCountPerParticipant = new HashMap<>();
         this.bingoTaskGenerator = () -> null;
-        this.cardData = new BingoCardData();
+        this.deck = null;
+        this.clock = 0;
+        this.deadlines = new PriorityQueue<>(Comparator.comparingLong(Deadline::time));
+        this.holdersChanged = false;
         this.game = game;
         this.progressTracker = progressTracker;
         this.minExpirationTime = config.minimumExpiration();
         this.maxExpirationTime = config.maximumExpiration();
         this.recoveryTimeSeconds = config.recoveryTime();
         this.showExpirationAsDurability = config.showExpirationAsDurability();
-        this.randomTasks = new ArrayList<>();
+        this.taskHistorySize = config.taskHistorySize();
         taskTimer.addNotifier(this::updateTaskExpiration);
 
         boolean countdownEnabled = game.getSettings().enableCountdown();
@@ -98,94 +126,119 @@ public class HotswapTaskCard extends TaskCard
      * Overridden to set up the task generator
      */
     @Override
-    public void generateCard(String cardName, int seed, boolean withAdvancements, boolean withStatistics) {
-        super.generateCard(cardName, seed, withAdvancements, withStatistics);
-
+    public void fillCard(List<TaskData> generatedTasks, String cardName, int seed, boolean withAdvancements, boolean withStatistics) {
         if (seed != 0) {
             randomExpiryProvider.setSeed(seed);
         }
 
+        List<TaskData> allTasks = new ArrayList<>();
+        TaskCatalog.get().collectTasks(cardName, withStatistics, withAdvancements, allTasks);
+        HotswapTaskDeck newDeck = new HotswapTaskDeck(allTasks, randomExpiryProvider, taskHistorySize);
+        deck = newDeck;
+        super.fillCard(generatedTasks, cardName, seed, withAdvancements, withStatistics);
+
         bingoTaskGenerator = () -> {
-            if (randomTasks.isEmpty()) {
-                randomTasks.addAll(cardData.getAllTasks(cardName, withStatistics, withAdvancements));
-                // Do not add the tasks that are currently on the card.
-                // This will result in less duplicates overall when cycling through tasks.
-                randomTasks.removeIf(data -> {
-                    for (GameTask task : getTasks()) {
-                        if (task.data.isTaskEqual(data)) {
-                            return true;
-                        }
-                    }
-                    return false;
-                });
-                Collections.shuffle(randomTasks, randomExpiryProvider);
-            }
-            if (randomTasks.isEmpty()) {
+            TaskData data = newDeck.draw();
+            if (data == null) {
                 return new GameTask(new ItemTask(Material.DIRT, 1));
             }
-
-            return new GameTask(randomTasks.removeLast());
+            return new GameTask(data);
         };
     }
 
     @Override
     public void setTasks(List<GameTask> tasks) {
         taskHolders.clear();
+        this.tasks.clear();
+        deadlines.clear();
         for (GameTask task : tasks) {
             int expirationTime = randomExpiryProvider.nextInt(minExpirationTime * 60, (maxExpirationTime * 60) + 1);
-            taskHolders.add(new HotswapTaskHolder(task, expirationTime, recoveryTimeSeconds, showExpirationAsDurability));
+            HotswapTaskHolder holder = new HotswapTaskHolder(task, expirationTime, recoveryTimeSeconds, showExpirationAsDurability, clock);
+            scheduleDeadline(taskHolders.size(), holder);
+            taskHolders.add(holder);
+            this.tasks.add(task);
+            if (deck != null) {
+                deck.markInUse(task.data);
+            }
         }
         ((HotswapCardMenu)menu).updateTaskHolders(taskHolders);
     }
 
     @Override
     public void handleTaskCompleted(BingoParticipant player, GameTask task, long timeSeconds) {
-        completedTasks.add(task);
+        // Start recovering right away, the new deadline replaces the expiration deadline.
+        int slot = tasks.indexOf(task);
+        if (slot != -1 && !taskHolders.get(slot).isRecovering()) {
+            HotswapTaskHolder holder = taskHolders.get(slot);
+            holder.startRecovering(clock);
+            scheduleDeadline(slot, holder);
+            holdersChanged = true;
+        }
+
+        completedCountPerParticipant.merge(player.getId(), 1, Integer::sum);
+        BingoTeam team = player.getTeam();
+        if (team != null) {
+            completedCountPerTeam.merge(team, 1, Integer::sum);
+        }
     }
 
+    /**
+     * @return the tasks currently on the card, this list changes when tasks get replaced.
+     */
     @Override
     public List<GameTask> getTasks() {
-        return taskHolders.stream().map(holder -> holder.task).toList();
+        return tasksView;
     }
 
+    /**
+     * Called every second by the game timer, only holders that reached their deadline are looked at.
+     */
     public void updateTaskExpiration(long timeElapsed) {
-        int idx = 0;
+        clock++;
         int taskExpiredCount = 0;
         int taskRecoveredCount = 0;
         GameTask lastExpiredTask = null;
         GameTask lastRecoverdTask = null;
-        for (HotswapTaskHolder holder : taskHolders) {
-            holder.currentTime -= 1;
-            if (!holder.isRecovering() && holder.task.isCompleted()) { // start recovering item when it's been completed
-                holder.startRecovering();
+        while (!deadlines.isEmpty() && deadlines.peek().time() <= clock) {
+            Deadline deadline = deadlines.poll();
+            int idx = deadline.slot();
+            HotswapTaskHolder holder = taskHolders.get(idx);
+            if (holder != deadline.holder() || holder.deadline != deadline.time()) {
+                // The holder was replaced, or its task got completed before it expired.
                 continue;
             }
-            if (holder.currentTime <= 0) {
-                if (holder.isRecovering()) {
-                    taskRecoveredCount++;
-                    // Recovery finished, replace task with a new one.
-                    GameTask newTask = bingoTaskGenerator.get();
-                    if (newTask == null) {
-                        ConsoleMessenger.bug("Cannot generate new task for hot-swap", this);
-                    }
-                    lastRecoverdTask = newTask;
-                    int expirationTime = randomExpiryProvider.nextInt(minExpirationTime, (maxExpirationTime + 1)) * 60;
-                    taskHolders.set(idx, new HotswapTaskHolder(newTask, expirationTime, recoveryTimeSeconds, showExpirationAsDurability));
-                    progressTracker.startTrackingTask(newTask);
-                } else {
-                    taskExpiredCount++;
-                    lastExpiredTask = holder.task;
-                    holder.task.setVoided(true);
-                    holder.startRecovering();
-                    progressTracker.removeTask(holder.task);
+
+            holdersChanged = true;
+            if (holder.isRecovering()) {
+                taskRecoveredCount++;
+                // Recovery finished, replace task with a new one.
+                GameTask newTask = bingoTaskGenerator.get();
+                if (newTask == null) {
+                    ConsoleMessenger.bug("Cannot generate new task for hot-swap", this);
                 }
+                lastRecoverdTask = newTask;
+                int expirationTime = randomExpiryProvider.nextInt(minExpirationTime, (maxExpirationTime + 1)) * 60;
+                if (deck != null) {
+                    deck.release(holder.task.data);
+                }
+                HotswapTaskHolder newHolder = new HotswapTaskHolder(newTask, expirationTime, recoveryTimeSeconds, showExpirationAsDurability, clock);
+                taskHolders.set(idx, newHolder);
+                tasks.set(idx, newTask);
+                scheduleDeadline(idx, newHolder);
+                progressTracker.startTrackingTask(newTask);
+            } else {
+                taskExpiredCount++;
+                lastExpiredTask = holder.task;
+                holder.task.setVoided(true);
+                holder.startRecovering(clock);
+                scheduleDeadline(idx, holder);
+                progressTracker.removeTask(holder.task);
             }
-            idx++;
         }
 
         if (taskExpiredCount > 0) {
             var event = new BingoPlaySoundEvent(game.getSession(), Sound.ITEM_FIRECHARGE_USE);
-            Bukkit.getPluginManager().callEvent(event);
+            BingoReloaded.callBingoEvent(event);
 
             if (taskExpiredCount == 1) {
                 GameTask taskToSend = lastExpiredTask;
@@ -200,7 +253,7 @@ public class HotswapTaskCard extends TaskCard
         }
         if (taskRecoveredCount > 0) {
             var event = new BingoPlaySoundEvent(game.getSession(), Sound.ENTITY_PLAYER_LEVELUP);
-            Bukkit.getPluginManager().callEvent(event);
+            BingoReloaded.callBingoEvent(event);
 
             if (taskRecoveredCount == 1) {
                 GameTask taskToSend = lastRecoverdTask;
@@ -213,16 +266,39 @@ public class HotswapTaskCard extends TaskCard
                         1, 3);
             }
         }
-        ((HotswapCardMenu)menu).updateTaskHolders(taskHolders);
+
+        // The time left is shown on every task, so the menu only needs to be updated every second while someone is looking at it.
+        HotswapCardMenu hotswapMenu = (HotswapCardMenu) menu;
+        if (holdersChanged || hotswapMenu.hasViewers()) {
+            holdersChanged = false;
+            updateHolderTimes();
+            hotswapMenu.updateTaskHolders(taskHolders);
+        }
+    }
+
+    @Override
+    public void showInventory(Player player) {
+        updateHolderTimes();
+        super.showInventory(player);
+    }
+
+    private void updateHolderTimes() {
+        for (HotswapTaskHolder holder : taskHolders) {
+            holder.updateCurrentTime(clock);
+        }
+    }
+
+    private void scheduleDeadline(int slot, HotswapTaskHolder holder) {
+        deadlines.add(new Deadline(holder.deadline, slot, holder));
     }
 
     @Override
     public int getCompleteCount(@NotNull BingoTeam team) {
-        return (int) completedTasks.stream().filter(task -> task.getCompletedBy().isPresent() && task.getCompletedBy().get().getTeam().equals(team)).count();
+        return completedCountPerTeam.getOrDefault(team, 0);
     }
 
+    @Override
     public int getCompleteCount(@NotNull BingoParticipant participant) {
-        return (int) completedTasks.stream()
-                .filter(t -> t.getCompletedBy().isPresent() && t.getCompletedBy().get().getId().equals(participant.getId())).count();
+        return completedCountPerParticipant.getOrDefault(participant.getId(), 0);
     }
 }
@@ -0,0 +1,104 @@
+package io.github.steaf23.bingoreloaded.cards;
+
+import io.github.steaf23.bingoreloaded.tasks.TaskData;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Deck of tasks that new hotswap tasks are drawn from.
+ * Each draw takes a random task from the part of the deck that has not been drawn yet in the current round,
+ * once every task has been drawn a new round starts with the full deck.
+ * Tasks that are on the card right now or that have left the card recently are skipped.
+ * Tasks are compared using equals(), which only looks at what a task is, not at its count.
+ */
+public class HotswapTaskDeck
+{
+    private final TaskData[] deck;
+    private final Random random;
+    private int remaining;
+
+    private final Set<TaskData> inUse;
+    private final Set<TaskData> recent;
+    private final ArrayDeque<TaskData> history;
+    private final int historySize;
+
+    /**
+     * @param historySize amount of tasks that left the card most recently which should not be drawn again.
+     */
+    public HotswapTaskDeck(Collection<TaskData> tasks, Random random, int historySize) {
+        this.deck = new LinkedHashSet<>(tasks).toArray(TaskData[]::new);
+        this.random = random;
+        this.remaining = deck.length;
+        this.inUse = new HashSet<>();
+        this.recent = new HashSet<>();
+        this.history = new ArrayDeque<>();
+        this.historySize = Math.max(0, historySize);
+    }
+
+    /**
+     * Mark the task as being on the card, it will not be drawn until it is released again.
+     */
+    public void markInUse(TaskData task) {
+        inUse.add(task);
+    }
+
+    /**
+     * Mark the task as no longer being on the card, it will not be drawn again until it falls out of the history.
+     */
+    public void release(TaskData task) {
+        inUse.remove(task);
+        if (historySize == 0 || !recent.add(task)) {
+            return;
+        }
+        history.addLast(task);
+        if (history.size() > historySize) {
+            recent.remove(history.removeFirst());
+        }
+    }
+
+    /**
+     * @return a random task that is not in use and was not released recently, which is marked as in use.
+     * If all tasks are unavailable, a task that is only in the history is returned instead, or null if all tasks are in use.
+     */
+    public @Nullable TaskData draw() {
+        TaskData fallback = null;
+        // Every task gets looked at once at most, so an unavailable deck does not loop forever.
+        for (int attempt = 0; attempt < deck.length; attempt++) {
+            if (remaining == 0) {
+                remaining = deck.length;
+            }
+            int idx = random.nextInt(remaining);
+            TaskData task = deck[idx];
+            deck[idx] = deck[remaining - 1];
+            deck[remaining - 1] = task;
+            remaining--;
+
+            if (inUse.contains(task)) {
+                continue;
+            }
+            if (recent.contains(task)) {
+                if (fallback == null) {
+                    fallback = task;
+                }
+                continue;
+            }
+            inUse.add(task);
+            return task;
+        }
+
+        if (fallback != null) {
+            inUse.add(fallback);
+        }
+        return fallback;
+    }
+
+    public int size() {
+        return deck.length;
+    }
+}
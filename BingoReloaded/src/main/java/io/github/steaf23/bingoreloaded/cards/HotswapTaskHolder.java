@@ -16,6 +16,8 @@ public class HotswapTaskHolder
     public int recoveryTime;
     public int currentTime;
     public boolean recovering;
+    // Game clock time at which this holder expires or finishes recovering.
+    public long deadline;
 
     private final boolean showExpirationAsDurability;
 
@@ -25,12 +27,16 @@ public class HotswapTaskHolder
             .addColor(TextColor.fromHexString("#750e0e"), 0.8f)
             .addColor(NamedTextColor.DARK_GRAY, 1.0f);
 
-    public HotswapTaskHolder(GameTask task, int expirationTimeMinutes, int recoverTime, boolean showExpirationAsDurability) {
+    /**
+     * @param startTime game clock time at which this holder is put on the card.
+     */
+    public HotswapTaskHolder(GameTask task, int expirationTimeMinutes, int recoverTime, boolean showExpirationAsDurability, long startTime) {
         this.task = task;
         this.expirationTimeSeconds = expirationTimeMinutes;
         this.recoveryTime = recoverTime;
         this.currentTime = expirationTimeMinutes;
         this.recovering = false;
+        this.deadline = startTime + expirationTimeMinutes;
         this.showExpirationAsDurability = showExpirationAsDurability;
     }
 
@@ -49,9 +55,17 @@ public class HotswapTaskHolder
         return item;
     }
 
-    public void startRecovering() {
+    public void startRecovering(long now) {
         recovering = true;
         currentTime = recoveryTime;
+        deadline = now + recoveryTime;
+    }
+
+    /**
+     * Update the time shown on the item to the time left until the deadline.
+     */
+    public void updateCurrentTime(long now) {
+        currentTime = (int) Math.max(0, deadline - now);
     }
 
     public boolean isRecovering() {
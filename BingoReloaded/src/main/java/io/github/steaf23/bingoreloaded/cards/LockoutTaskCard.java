@@ -8,6 +8,8 @@ import io.github.steaf23.bingoreloaded.player.team.BingoTeamContainer;
 import io.github.steaf23.bingoreloaded.tasks.GameTask;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.List;
+
 public class LockoutTaskCard extends TaskCard
 {
     public int teamCount;
@@ -28,14 +30,30 @@ public class LockoutTaskCard extends TaskCard
 
     @Override
     public boolean hasTeamWon(BingoTeam team) {
-        // get the completeCount of the team with the most items.
-        BingoTeam leadingTeam = teams.getLeadingTeam();
-        BingoTeam losingTeam = teams.getLosingTeam();
+        // get the completeCount of the team with the most and the least items.
+        BingoTeam leadingTeam = null;
+        BingoTeam losingTeam = null;
+        int leadingCount = 0;
+        int losingCount = 0;
+        long takenMask = 0L;
+        for (BingoTeam t : teams) {
+            long mask = getCompletedMask(t);
+            int count = Long.bitCount(mask);
+            takenMask |= mask;
+            if (leadingTeam == null || count > leadingCount) {
+                leadingTeam = t;
+                leadingCount = count;
+            }
+            if (losingTeam == null || count < losingCount) {
+                losingTeam = t;
+                losingCount = count;
+            }
+        }
 
-        int itemsLeft = size.fullCardSize - teams.getTotalCompleteCount();
+        int itemsLeft = size.fullCardSize - Long.bitCount(takenMask);
 
         // if amount on items cannot get up to amount of items of the team with the most items, this team cannot win anymore.
-        if (itemsLeft + losingTeam.getCompleteCount() < leadingTeam.getCompleteCount()) {
+        if (losingTeam != null && itemsLeft + losingCount < leadingCount) {
             dropTeam(losingTeam, session);
         }
 
@@ -48,7 +66,7 @@ public class LockoutTaskCard extends TaskCard
         }
 
         // Only pick a bingo winner when there are only 2 teams remaining
-        int completeCount = team.getCompleteCount();
+        int completeCount = Long.bitCount(getCompletedMask(team));
         return completeCount > (currentMaxTasks / 2);
     }
 
@@ -65,12 +83,15 @@ public class LockoutTaskCard extends TaskCard
         }
         BingoMessage.DROPPED.sendToAudience(session, team.getColoredName());
         team.outOfTheGame = true;
-        for (GameTask task : getTasks()) {
-            if (task.isCompleted() && team.getMembers().contains(task.getCompletedBy().orElse(null))) {
-                task.setVoided(true);
-                currentMaxTasks--;
+        long completed = getCompletedMask(team);
+        List<GameTask> tasks = getTasks();
+        for (int i = 0; i < tasks.size(); i++) {
+            if ((completed & (1L << i)) != 0) {
+                tasks.get(i).setVoided(true);
             }
         }
+        currentMaxTasks -= Long.bitCount(completed);
         teamCount--;
+        session.teamManager.getActiveTeams().updateScore(team);
     }
 }
@@ -0,0 +1,55 @@
+package io.github.steaf23.bingoreloaded.cards;
+
+import io.github.steaf23.bingoreloaded.BingoReloaded;
+import io.github.steaf23.bingoreloaded.tasks.TaskData;
+import io.github.steaf23.playerdisplay.util.ConsoleMessenger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Tasks for a card that are generated in the background before the game that needs them starts.
+ * The blueprint is taken from the catalog on the thread that creates this card (the main thread),
+ * after that generating the tasks only reads from the blueprint, which never changes.
+ */
+public record PregeneratedCard(String cardName, CardSize size, int seed, boolean withStatistics, boolean withAdvancements,
+                               CompletableFuture<List<TaskData>> tasks)
+{
+    public static @NotNull PregeneratedCard generateAsync(String cardName, CardSize size, int seed, boolean withStatistics, boolean withAdvancements) {
+        CardBlueprint blueprint = CardBlueprint.get(cardName, size, withStatistics, withAdvancements);
+        CompletableFuture<List<TaskData>> tasks = new CompletableFuture<>();
+        BingoReloaded.getScheduler().runAsync(() -> {
+            try {
+                tasks.complete(blueprint.generate(seed));
+            } catch (RuntimeException e) {
+                tasks.completeExceptionally(e);
+            }
+        });
+        return new PregeneratedCard(cardName, size, seed, withStatistics, withAdvancements, tasks);
+    }
+
+    public boolean matches(String cardName, CardSize size, int seed, boolean withStatistics, boolean withAdvancements) {
+        return Objects.equals(this.cardName, cardName) && this.size == size && this.seed == seed
+                && this.withStatistics == withStatistics && this.withAdvancements == withAdvancements;
+    }
+
+    /**
+     * @return the generated tasks, or null if they are not done yet or could not be generated.
+     */
+    public @Nullable List<TaskData> getIfDone() {
+        if (!tasks.isDone()) {
+            return null;
+        }
+        if (tasks.isCompletedExceptionally()) {
+            tasks.exceptionally(e -> {
+                ConsoleMessenger.error("Could not generate card '" + cardName + "' in advance: " + e.getMessage());
+                return null;
+            });
+            return null;
+        }
+        return tasks.join();
+    }
+}
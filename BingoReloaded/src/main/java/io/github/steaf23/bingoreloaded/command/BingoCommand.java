@@ -1,5 +1,6 @@
 package io.github.steaf23.bingoreloaded.command;
 
+import io.github.steaf23.bingoreloaded.BingoReloaded;
 import io.github.steaf23.bingoreloaded.data.BingoMessage;
 import io.github.steaf23.bingoreloaded.data.BingoStatData;
 import io.github.steaf23.bingoreloaded.data.ConfigData;
@@ -150,7 +151,7 @@ public class BingoCommand implements TabExecutor
                     BingoPlayerSender.sendMessage(text, player);
                     return true;
                 }
-                BingoStatData statsData = new BingoStatData();
+                BingoStatData statsData = BingoReloaded.getInstance().getStatData();
                 Component msg;
                 if (args.length > 1 && player.hasPermission("bingo.admin")) {
                     msg = statsData.getPlayerStatsFormatted(args[1]);
@@ -2,26 +2,66 @@ package io.github.steaf23.bingoreloaded.command;
 
 
 import io.github.steaf23.bingoreloaded.BingoReloaded;
+import io.github.steaf23.bingoreloaded.cards.CardBlueprint;
+import io.github.steaf23.bingoreloaded.cards.CardSize;
 import io.github.steaf23.bingoreloaded.cards.TaskCard;
+import io.github.steaf23.bingoreloaded.data.BingoPlayerStats;
+import io.github.steaf23.bingoreloaded.data.BingoStatType;
+import io.github.steaf23.bingoreloaded.data.TaskCatalog;
 import io.github.steaf23.bingoreloaded.data.TexturedMenuData;
+import io.github.steaf23.bingoreloaded.data.helper.SqliteStatStorage;
+import io.github.steaf23.bingoreloaded.data.helper.StatStorage;
+import io.github.steaf23.bingoreloaded.data.helper.TaskListBinaryFormat;
+import io.github.steaf23.bingoreloaded.data.helper.YmlStatStorage;
 import io.github.steaf23.bingoreloaded.event.BingoTaskProgressCompletedEvent;
+import io.github.steaf23.bingoreloaded.gameloop.BingoSession;
 import io.github.steaf23.bingoreloaded.gameloop.phase.BingoGame;
 import io.github.steaf23.bingoreloaded.player.BingoParticipant;
+import io.github.steaf23.bingoreloaded.player.team.BingoTeam;
+import io.github.steaf23.bingoreloaded.tasks.BingoStatistic;
 import io.github.steaf23.bingoreloaded.tasks.GameTask;
+import io.github.steaf23.bingoreloaded.tasks.ItemTask;
+import io.github.steaf23.bingoreloaded.tasks.StatisticTask;
+import io.github.steaf23.bingoreloaded.tasks.TaskData;
+import io.github.steaf23.bingoreloaded.tasks.tracker.TaskDefinitionRegistry;
+import io.github.steaf23.bingoreloaded.tasks.tracker.TaskProgressTracker;
 import io.github.steaf23.playerdisplay.inventory.MenuBoard;
 import io.github.steaf23.playerdisplay.util.ConsoleMessenger;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.TextComponent;
 import net.kyori.adventure.text.format.NamedTextColor;
 import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.Statistic;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandSender;
 import org.bukkit.command.TabExecutor;
+import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
+import org.bukkit.event.inventory.FurnaceExtractEvent;
+import org.bukkit.event.player.PlayerStatisticIncrementEvent;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Supplier;
 
 public class BingoTestCommand implements TabExecutor
 {
@@ -78,6 +118,29 @@ public class BingoTestCommand implements TabExecutor
                 var inv = Bukkit.createInventory(null, 9*6, title.append(Component.text("\uE030").append(Component.translatable("space.-" + (test.textureEnd() + 2)))).append(Component.text("\uE030")).build());
                 p.openInventory(inv);
             }
+            case "benchmark" -> {
+                benchmarkTaskIndex();
+                BingoSession session = BingoReloaded.getInstance().getGameManager().getSession(args.length > 1 ? args[1] : "world");
+                if (session == null || !(session.phase() instanceof BingoGame game)) {
+                    ConsoleMessenger.log("No bingo game is running in this session, skipping the tracker benchmark");
+                    break;
+                }
+                benchmarkTracker(game);
+            }
+            case "cardgen" -> benchmarkCardGeneration();
+            case "tasklists" -> benchmarkTaskListFormat();
+            // Writes a lot of files, so keep the server thread free while it runs.
+            case "statstorage" -> BingoReloaded.getScheduler().runAsync(this::benchmarkStatStorage);
+            case "tracker" -> {
+                BingoSession session = BingoReloaded.getInstance().getGameManager().getSession(args.length > 1 ? args[1] : "world");
+                if (session == null || !(session.phase() instanceof BingoGame game)) {
+                    ConsoleMessenger.error("No bingo game is running in this session");
+                    break;
+                }
+
+                TaskProgressTracker tracker = game.getProgressTracker();
+                ConsoleMessenger.log("Inventory checks saved by merging: " + tracker.getSavedItemChecks());
+            }
         }
         return true;
     }
@@ -99,8 +162,383 @@ public class BingoTestCommand implements TabExecutor
         }
 
         GameTask task = card.getTasks().get(taskIndex);
-        task.complete(player, ((BingoGame) player.getSession().phase()).getGameTime());
+        long gameTime = ((BingoGame) player.getSession().phase()).getGameTime();
+        if (task.complete(player, gameTime)) {
+            card.handleTaskCompleted(player, task, gameTime);
+        }
         var slotEvent = new BingoTaskProgressCompletedEvent(player.getSession(), task);
-        Bukkit.getPluginManager().callEvent(slotEvent);
+        BingoReloaded.callBingoEvent(slotEvent);
+    }
+
+    /**
+     * Measures how long the task definition registry takes to resolve the tasks affected by a single item event.
+     * Every team gets its own copy of the same card, like in COMPLETE and REGULAR games,
+     * so the time per event should stay about the same when the amount of teams grows.
+     */
+    void benchmarkTaskIndex() {
+        int[][] scenarios = {{4, 9}, {16, 25}, {64, 36}};
+        int eventCount = 1_000_000;
+        Material[] materials = Arrays.stream(Material.values()).filter(Material::isItem).toArray(Material[]::new);
+
+        for (int[] scenario : scenarios) {
+            int teamCount = scenario[0];
+            int taskCount = scenario[1];
+
+            TaskDefinitionRegistry registry = new TaskDefinitionRegistry();
+            BingoTeam[] teams = new BingoTeam[teamCount];
+            for (int t = 0; t < teamCount; t++) {
+                teams[t] = new BingoTeam("benchmark_" + t, NamedTextColor.WHITE, Component.text(t), Component.empty());
+                for (int i = 0; i < taskCount; i++) {
+                    registry.register(new GameTask(new ItemTask(materials[i])), teams[t]);
+                }
+            }
+
+            // Half of the events will not match any task, just like most inventory changes in a real game.
+            Random random = new Random(0);
+            Material[] eventMaterials = new Material[eventCount];
+            for (int i = 0; i < eventCount; i++) {
+                eventMaterials[i] = materials[random.nextInt(taskCount * 2)];
+            }
+
+            long visited = 0;
+            long duration = 0;
+            // run twice so the second pass is measured after the JIT had a chance to warm up.
+            for (int pass = 0; pass < 2; pass++) {
+                visited = 0;
+                long start = System.nanoTime();
+                for (int i = 0; i < eventCount; i++) {
+                    BingoTeam team = teams[i % teamCount];
+                    for (TaskDefinitionRegistry.TaskDefinition definition : registry.get(eventMaterials[i])) {
+                        if (definition.getTaskOfTeam(team) != null) {
+                            visited++;
+                        }
+                    }
+                }
+                duration = System.nanoTime() - start;
+            }
+
+            ConsoleMessenger.log(String.format("Task registry: %d teams, %d tasks (%d definitions) -> %.1f ns per event (%d tasks resolved)",
+                    teamCount, taskCount, registry.size(), duration / (double) eventCount, visited));
+        }
+    }
+
+    /**
+     * Measures how long the progress tracker of a running game takes to handle a single item or statistic event per participant,
+     * from the event handler up to updating the progress of the matching tasks.
+     * Half of the events are for items and statistics on the card, the other half for ones that aren't.
+     * Events only report amounts the players actually have, so the only tasks they can complete are ones the players already did.
+     */
+    void benchmarkTracker(BingoGame game) {
+        int eventCount = 100_000;
+        TaskProgressTracker tracker = game.getProgressTracker();
+        Material[] materials = Arrays.stream(Material.values()).filter(Material::isItem).toArray(Material[]::new);
+        Statistic[] untrackedStatistics = {Statistic.JUMP, Statistic.DROP_COUNT, Statistic.ANIMALS_BRED, Statistic.FISH_CAUGHT};
+
+        for (BingoParticipant participant : game.getTeamManager().getParticipants()) {
+            if (participant.sessionPlayer().isEmpty() || participant.getTeam() == null || participant.getTeam().getCard() == null) {
+                continue;
+            }
+            Player player = participant.sessionPlayer().get();
+
+            List<Material> itemKeys = new ArrayList<>();
+            List<BingoStatistic> statisticKeys = new ArrayList<>();
+            for (GameTask task : participant.getTeam().getCard().getTasks()) {
+                if (task.data instanceof ItemTask itemTask) {
+                    itemKeys.add(itemTask.material());
+                } else if (task.data instanceof StatisticTask statisticTask) {
+                    statisticKeys.add(statisticTask.statistic());
+                }
+            }
+            int cardItems = itemKeys.size();
+            for (int i = 0; cardItems > 0 && itemKeys.size() < cardItems * 2; i++) {
+                if (!itemKeys.contains(materials[i])) {
+                    itemKeys.add(materials[i]);
+                }
+            }
+            int cardStatistics = statisticKeys.size();
+            for (int i = 0; i < Math.max(cardStatistics, 1); i++) {
+                statisticKeys.add(new BingoStatistic(untrackedStatistics[i % untrackedStatistics.length]));
+            }
+
+            Random random = new Random(0);
+            FurnaceExtractEvent[] itemEvents = new FurnaceExtractEvent[itemKeys.isEmpty() ? 0 : eventCount];
+            for (int i = 0; i < itemEvents.length; i++) {
+                itemEvents[i] = new FurnaceExtractEvent(player, player.getLocation().getBlock(), itemKeys.get(random.nextInt(itemKeys.size())), 1, 0);
+            }
+            PlayerStatisticIncrementEvent[] statisticEvents = new PlayerStatisticIncrementEvent[eventCount];
+            for (int i = 0; i < statisticEvents.length; i++) {
+                statisticEvents[i] = statisticEvent(player, statisticKeys.get(random.nextInt(statisticKeys.size())));
+            }
+
+            long itemDuration = 0;
+            long statisticDuration = 0;
+            // run twice so the second pass is measured after the JIT had a chance to warm up.
+            for (int pass = 0; pass < 2; pass++) {
+                long start = System.nanoTime();
+                for (FurnaceExtractEvent event : itemEvents) {
+                    tracker.handleFurnaceExtract(event);
+                    tracker.flushItemChecks();
+                }
+                itemDuration = System.nanoTime() - start;
+
+                start = System.nanoTime();
+                for (PlayerStatisticIncrementEvent event : statisticEvents) {
+                    tracker.handlePlayerStatIncrement(event);
+                }
+                statisticDuration = System.nanoTime() - start;
+            }
+
+            ConsoleMessenger.log(String.format("Tracker: %s (%d item, %d statistic tasks) -> item event %.1f ns, statistic event %.1f ns",
+                    player.getName(), cardItems, cardStatistics,
+                    itemEvents.length == 0 ? 0.0 : itemDuration / (double) itemEvents.length, statisticDuration / (double) statisticEvents.length));
+        }
+    }
+
+    /**
+     * @return event for the statistic that does not change its value, so it can be handled any amount of times.
+     */
+    private static PlayerStatisticIncrementEvent statisticEvent(Player player, BingoStatistic statistic) {
+        if (statistic.materialType() != null) {
+            int value = player.getStatistic(statistic.stat(), statistic.materialType());
+            return new PlayerStatisticIncrementEvent(player, statistic.stat(), value, value, statistic.materialType());
+        }
+        if (statistic.entityType() != null) {
+            int value = player.getStatistic(statistic.stat(), statistic.entityType());
+            return new PlayerStatisticIncrementEvent(player, statistic.stat(), value, value, statistic.entityType());
+        }
+        int value = player.getStatistic(statistic.stat());
+        return new PlayerStatisticIncrementEvent(player, statistic.stat(), value, value);
+    }
+
+    /**
+     * Measures how long it takes to generate the tasks of a 5x5 card from lists of different sizes, and how much memory that allocates.
+     * Since only the picked tasks are visited, both should stay about the same when the lists grow.
+     */
+    void benchmarkCardGeneration() {
+        int[] listSizes = {50, 500, 5000};
+        int cardCount = 100_000;
+        Material[] materials = Arrays.stream(Material.values()).filter(Material::isItem).toArray(Material[]::new);
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+
+        for (int listSize : listSizes) {
+            Map<String, List<TaskData>> lists = new HashMap<>();
+            List<TaskCatalog.CardList> cardLists = new ArrayList<>();
+            for (int l = 0; l < 6; l++) {
+                lists.put("benchmark_" + l, distinctTasks(materials, listSize));
+                cardLists.add(new TaskCatalog.CardList("benchmark_" + l, 2, 6));
+            }
+            TaskCatalog catalog = TaskCatalog.create(lists, Map.of("benchmark", cardLists));
+            CardBlueprint blueprint = CardBlueprint.compile(catalog, "benchmark", CardSize.X5, true, true);
+
+            long duration = 0;
+            long allocated = -1;
+            // run twice so the second pass is measured after the JIT had a chance to warm up.
+            for (int pass = 0; pass < 2; pass++) {
+                long allocatedBefore = threadBean instanceof com.sun.management.ThreadMXBean bean ? bean.getCurrentThreadAllocatedBytes() : -1;
+                long start = System.nanoTime();
+                for (int seed = 1; seed <= cardCount; seed++) {
+                    blueprint.generate(seed);
+                }
+                duration = System.nanoTime() - start;
+                if (allocatedBefore != -1) {
+                    allocated = ((com.sun.management.ThreadMXBean) threadBean).getCurrentThreadAllocatedBytes() - allocatedBefore;
+                }
+            }
+
+            boolean deterministic = blueprint.generate(42).equals(blueprint.generate(42));
+            ConsoleMessenger.log(String.format("Card generation: 6 lists of %d tasks -> %.1f us per card, %s bytes per card (same seed gives same card: %b)",
+                    listSize, duration / (double) cardCount / 1000.0, allocated == -1 ? "?" : String.valueOf(allocated / cardCount), deterministic));
+        }
+    }
+
+    /**
+     * Checks that the task lists file survives a round trip through the binary format,
+     * and compares how long it takes to load the lists from the yml file and from the binary format.
+     */
+    void benchmarkTaskListFormat() {
+        File source = BingoReloaded.createYmlDataManager("data/" + BingoReloaded.getDefaultTasksVersion()).getConfigFile();
+        int runs = 5;
+
+        Map<String, List<TaskData>> fromYml = null;
+        long ymlDuration = 0;
+        for (int run = 0; run < runs; run++) {
+            long start = System.nanoTime();
+            YamlConfiguration yml = YamlConfiguration.loadConfiguration(source);
+            fromYml = new LinkedHashMap<>();
+            for (String listName : yml.getKeys(false)) {
+                List<TaskData> tasks = new ArrayList<>();
+                for (Object task : yml.getList(listName + ".tasks", List.of())) {
+                    if (task instanceof TaskData taskData) {
+                        tasks.add(taskData);
+                    }
+                }
+                fromYml.put(listName, tasks);
+            }
+            ymlDuration = System.nanoTime() - start;
+        }
+
+        byte[] encoded;
+        Map<String, List<TaskData>> fromBinary = null;
+        long binaryDuration = 0;
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            TaskListBinaryFormat.write(fromYml, source.lastModified(), source.length(), new DataOutputStream(bytes));
+            encoded = bytes.toByteArray();
+            for (int run = 0; run < runs; run++) {
+                long start = System.nanoTime();
+                fromBinary = TaskListBinaryFormat.read(new DataInputStream(new ByteArrayInputStream(encoded)), source.lastModified(), source.length());
+                binaryDuration = System.nanoTime() - start;
+            }
+        } catch (IOException e) {
+            ConsoleMessenger.error("Binary task list round trip failed: " + e.getMessage());
+            return;
+        }
+
+        int taskCount = fromYml.values().stream().mapToInt(List::size).sum();
+        boolean equal = fromBinary != null && fromBinary.keySet().equals(fromYml.keySet());
+        if (equal) {
+            for (String listName : fromYml.keySet()) {
+                List<TaskData> expected = fromYml.get(listName);
+                List<TaskData> actual = fromBinary.get(listName);
+                // Tasks are compared by count as well, since equals() ignores it.
+                equal &= expected.equals(actual) && expected.stream().map(TaskData::getStackSize).toList()
+                        .equals(actual.stream().map(TaskData::getStackSize).toList());
+            }
+        }
+
+        ConsoleMessenger.log(String.format("Task lists: %d lists, %d tasks, round trip %s", fromYml.size(), taskCount, equal ? "OK" : "FAILED"));
+        ConsoleMessenger.log(String.format("Task lists: yml %d bytes in %.2f ms, binary %d bytes in %.2f ms",
+                source.length(), ymlDuration / 1_000_000.0, encoded.length, binaryDuration / 1_000_000.0));
+    }
+
+    /**
+     * Load test for both player statistics storages, using 100k players in a new temporary folder that is removed afterwards.
+     * Fills each storage in one go, updates the stats of 60 players (like the end of a game) many times,
+     * opens the storage again and looks up random players, and finally migrates the yml storage to a new database.
+     */
+    void benchmarkStatStorage() {
+        int playerCount = 100_000;
+        int updateRounds = 100;
+        int updatedPlayers = 60;
+        int lookups = 10_000;
+
+        // A new folder every time, so files left behind by an earlier run that was cut off can't change the results.
+        File folder;
+        try {
+            folder = Files.createTempDirectory("bingoreloaded_stat_storage").toFile();
+        } catch (IOException e) {
+            ConsoleMessenger.error("Could not create folder for stat storage test: " + e.getMessage());
+            return;
+        }
+
+        Random random = new Random(42);
+        UUID[] players = new UUID[playerCount];
+        Map<UUID, BingoPlayerStats> expected = new HashMap<>();
+        for (int i = 0; i < playerCount; i++) {
+            players[i] = new UUID(random.nextLong(), random.nextLong());
+            expected.put(players[i], new BingoPlayerStats(random.nextInt(100), random.nextInt(100), random.nextInt(5000), random.nextInt(64), random.nextInt(1000)));
+        }
+
+        File ymlFile = new File(folder, "player_stats.yml");
+        File journalFile = new File(folder, "player_stats.journal");
+        File databaseFile = new File(folder, "player_stats.db");
+        try {
+            Map<String, Supplier<StatStorage>> storages = new LinkedHashMap<>();
+            storages.put("yml", () -> new YmlStatStorage(ymlFile, journalFile));
+            storages.put("sqlite", () -> {
+                try {
+                    return new SqliteStatStorage(databaseFile);
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+
+            for (Map.Entry<String, Supplier<StatStorage>> entry : storages.entrySet()) {
+                String name = entry.getKey();
+                long start = System.nanoTime();
+                StatStorage storage = entry.getValue().get();
+                storage.save(expected);
+                long fillDuration = System.nanoTime() - start;
+
+                start = System.nanoTime();
+                for (int round = 0; round < updateRounds; round++) {
+                    Map<UUID, BingoPlayerStats> changed = new LinkedHashMap<>();
+                    for (int i = 0; i < updatedPlayers; i++) {
+                        UUID player = players[random.nextInt(playerCount)];
+                        BingoPlayerStats stats = expected.get(player);
+                        stats = stats.with(BingoStatType.WINS, stats.wins() + 1);
+                        expected.put(player, stats);
+                        changed.put(player, stats);
+                    }
+                    storage.save(changed);
+                }
+                long updateDuration = System.nanoTime() - start;
+                storage.close();
+
+                start = System.nanoTime();
+                storage = entry.getValue().get();
+                long openDuration = System.nanoTime() - start;
+
+                boolean correct = true;
+                start = System.nanoTime();
+                for (int i = 0; i < lookups; i++) {
+                    UUID player = players[random.nextInt(playerCount)];
+                    correct &= expected.get(player).equals(storage.load(player));
+                }
+                long lookupDuration = System.nanoTime() - start;
+
+                int[] count = {0};
+                start = System.nanoTime();
+                storage.forEachPlayer((id, stats) -> count[0]++);
+                long scanDuration = System.nanoTime() - start;
+                storage.close();
+
+                ConsoleMessenger.log(String.format("Stat storage %s: %d players %s, fill %.1f ms, %d updates of %d players %.3f ms each, open %.1f ms, lookup %.1f us, scan %.1f ms",
+                        name, count[0], correct && count[0] == playerCount ? "OK" : "FAILED", fillDuration / 1_000_000.0,
+                        updateRounds, updatedPlayers, updateDuration / 1_000_000.0 / updateRounds, openDuration / 1_000_000.0,
+                        lookupDuration / 1_000.0 / lookups, scanDuration / 1_000_000.0));
+            }
+
+            Files.deleteIfExists(databaseFile.toPath());
+            long start = System.nanoTime();
+            SqliteStatStorage database = new SqliteStatStorage(databaseFile);
+            boolean neededMigration = database.needsMigration();
+            database.migrateFrom(new YmlStatStorage(ymlFile, journalFile));
+            long migrateDuration = System.nanoTime() - start;
+            int[] count = {0};
+            database.forEachPlayer((id, stats) -> count[0]++);
+            boolean migrated = neededMigration && !database.needsMigration() && count[0] == playerCount;
+            database.close();
+            ConsoleMessenger.log(String.format("Stat storage migration: %d players %s in %.1f ms",
+                    count[0], migrated ? "OK" : "FAILED", migrateDuration / 1_000_000.0));
+        } catch (SQLException | IOException | IllegalStateException e) {
+            ConsoleMessenger.error("Stat storage test failed: " + e.getMessage());
+        } finally {
+            File[] files = folder.listFiles();
+            if (files != null) {
+                for (File file : files) {
+                    file.delete();
+                }
+            }
+            folder.delete();
+        }
+    }
+
+    /**
+     * @return the given amount of tasks that are all different from each other, since duplicate tasks are removed from lists.
+     */
+    private static List<TaskData> distinctTasks(Material[] materials, int count) {
+        Statistic[] statistics = {Statistic.USE_ITEM, Statistic.CRAFT_ITEM, Statistic.PICKUP, Statistic.DROP, Statistic.BREAK_ITEM};
+        List<TaskData> tasks = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Material material = materials[i % materials.length];
+            int round = i / materials.length;
+            if (round == 0) {
+                tasks.add(new ItemTask(material, 1 + i % 64));
+            } else {
+                tasks.add(new StatisticTask(new BingoStatistic(statistics[(round - 1) % statistics.length], material), 1 + i % 64));
+            }
+        }
+        return tasks;
     }
 }
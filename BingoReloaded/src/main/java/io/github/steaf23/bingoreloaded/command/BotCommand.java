@@ -12,7 +12,6 @@ import io.github.steaf23.bingoreloaded.tasks.GameTask;
 import io.github.steaf23.playerdisplay.util.ConsoleMessenger;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
-import org.bukkit.Bukkit;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandSender;
 import org.bukkit.command.TabExecutor;
@@ -135,7 +134,7 @@ public class BotCommand implements TabExecutor
         GameTask task = card.getTasks().get(taskIndex);
         task.complete(player, ((BingoGame) player.getSession().phase()).getGameTime());
         var slotEvent = new BingoTaskProgressCompletedEvent(player.getSession(), task);
-        Bukkit.getPluginManager().callEvent(slotEvent);
+        BingoReloaded.callBingoEvent(slotEvent);
     }
 
     @Nullable
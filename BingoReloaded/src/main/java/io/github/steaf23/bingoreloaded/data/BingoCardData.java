@@ -40,6 +40,7 @@ public class BingoCardData
 
         data.getConfig().set(cardName, null);
         data.saveConfig();
+        TaskCatalog.invalidate();
         return true;
     }
 
@@ -51,6 +52,7 @@ public class BingoCardData
         var card = data.getConfig().get(cardName);
         data.getConfig().set(cardName + "_copy", card);
         data.saveConfig();
+        TaskCatalog.invalidate();
         return true;
     }
 
@@ -67,6 +69,7 @@ public class BingoCardData
         data.getConfig().set(newName, card);
         data.getConfig().set(cardName, null);
         data.saveConfig();
+        TaskCatalog.invalidate();
         return true;
     }
 
@@ -92,11 +95,13 @@ public class BingoCardData
             put("min", min);
         }});
         data.saveConfig();
+        TaskCatalog.invalidate();
     }
 
     public void removeList(String cardName, String listName)
     {
         data.getConfig().set(cardName + "." + listName, null);
+        TaskCatalog.invalidate();
     }
 
     public ItemTask getRandomItemTask(String cardName)
@@ -106,7 +111,7 @@ public class BingoCardData
 
     public ItemTask getRandomItemTask(String cardName, @NotNull Random generator) {
         List<TaskData> tasks = new ArrayList<>();
-        getListNames(cardName).forEach((l) -> tasks.addAll(listsData.getTasks(l, false, false)));
+        TaskCatalog.get().collectTasks(cardName, false, false, tasks);
 
         List<TaskData> allItemTasks = tasks.stream().filter(task -> task instanceof ItemTask).collect(Collectors.toList());
 
@@ -128,7 +133,7 @@ public class BingoCardData
 
     public List<TaskData> getAllTasks(String cardName, boolean withStatistics, boolean withAdvancements) {
         List<TaskData> tasks = new ArrayList<>();
-        getListNames(cardName).forEach((l) -> tasks.addAll(listsData.getTasks(l, withStatistics, withAdvancements)));
+        TaskCatalog.get().collectTasks(cardName, withStatistics, withAdvancements, tasks);
         return tasks;
     }
 
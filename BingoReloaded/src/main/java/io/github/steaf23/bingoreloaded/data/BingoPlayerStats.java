@@ -0,0 +1,58 @@
+package io.github.steaf23.bingoreloaded.data;
+
+/**
+ * Lifetime statistics of a single player.
+ * Stored in player_stats.yml as "wins;losses;tasks;record_tasks;wand_uses", in the order of BingoStatType.idx.
+ */
+public record BingoPlayerStats(int wins, int losses, int tasks, int recordTasks, int wandUses)
+{
+    public static final BingoPlayerStats EMPTY = new BingoPlayerStats(0, 0, 0, 0, 0);
+
+    public int get(BingoStatType statType)
+    {
+        return switch (statType)
+        {
+            case PLAYED -> wins + losses;
+            case WINS -> wins;
+            case LOSSES -> losses;
+            case TASKS -> tasks;
+            case RECORD_TASKS -> recordTasks;
+            case WAND_USES -> wandUses;
+        };
+    }
+
+    /**
+     * @return copy of these stats with the given stat set to value. PLAYED cannot be set, since it is computed from wins and losses.
+     */
+    public BingoPlayerStats with(BingoStatType statType, int value)
+    {
+        return switch (statType)
+        {
+            case PLAYED -> this;
+            case WINS -> new BingoPlayerStats(value, losses, tasks, recordTasks, wandUses);
+            case LOSSES -> new BingoPlayerStats(wins, value, tasks, recordTasks, wandUses);
+            case TASKS -> new BingoPlayerStats(wins, losses, value, recordTasks, wandUses);
+            case RECORD_TASKS -> new BingoPlayerStats(wins, losses, tasks, value, wandUses);
+            case WAND_USES -> new BingoPlayerStats(wins, losses, tasks, recordTasks, value);
+        };
+    }
+
+    public String serialize()
+    {
+        return wins + ";" + losses + ";" + tasks + ";" + recordTasks + ";" + wandUses;
+    }
+
+    /**
+     * @throws NumberFormatException if data is not a valid stats string.
+     */
+    public static BingoPlayerStats deserialize(String data)
+    {
+        String[] stats = data.split(";");
+        int[] values = new int[5];
+        for (int i = 0; i < values.length && i < stats.length; i++)
+        {
+            values[i] = Integer.parseInt(stats[i].trim());
+        }
+        return new BingoPlayerStats(values[0], values[1], values[2], values[3], values[4]);
+    }
+}
@@ -1,39 +1,158 @@
 package io.github.steaf23.bingoreloaded.data;
 
 import io.github.steaf23.bingoreloaded.BingoReloaded;
-import io.github.steaf23.bingoreloaded.data.helper.YmlDataManager;
+import io.github.steaf23.bingoreloaded.data.helper.SqliteStatStorage;
+import io.github.steaf23.bingoreloaded.data.helper.StatStorage;
+import io.github.steaf23.bingoreloaded.data.helper.YmlStatStorage;
 import io.github.steaf23.bingoreloaded.hologram.HologramBuilder;
+import io.github.steaf23.bingoreloaded.hologram.HologramManager;
+import io.github.steaf23.playerdisplay.util.ConsoleMessenger;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.TextDecoration;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 
 import javax.annotation.Nullable;
+import java.io.File;
+import java.sql.SQLException;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.UnaryOperator;
 
-
-public class BingoStatData
+/**
+ * Lifetime statistics of all players, read from the storage (see StatStorage) when a player joins and forgotten again when they leave.
+ * The storage is only used on a separate writer thread, which also saves all players that changed since the last write in one go.
+ * Explicit lookups of players that are not in memory read the storage right away, while placeholders get nothing until they have been read in the background.
+ */
+public class BingoStatData implements Listener
 {
-    private final YmlDataManager data = BingoReloaded.createYmlDataManager("data/player_stats.yml");
+    private static final String STATS_FILE = "data/player_stats.yml";
+    private static final String JOURNAL_FILE = "player_stats.journal";
+    private static final String DATABASE_FILE = "player_stats.db";
+    // Amount of players that can be shown on the leaderboard of each statistic.
+    private static final int LEADERBOARD_SIZE = 100;
+    // Amount of offline players whose statistics are kept for placeholders and commands.
+    private static final int OFFLINE_CACHE_SIZE = 1000;
+
+    private final StatStorage storage;
+    // Statistics of online players and of players with changes that have not been saved yet, players without stored statistics get EMPTY.
+    // Entries are only added on the writer thread, so reading the storage never happens inside a compute on this map.
+    private final Map<UUID, BingoPlayerStats> stats = new ConcurrentHashMap<>();
+    private final Set<UUID> onlinePlayers = ConcurrentHashMap.newKeySet();
+    // Last known statistics of offline players that have been looked up, least recently used players are removed first.
+    private final Map<UUID, BingoPlayerStats> offlineStats = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true)
+    {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<UUID, BingoPlayerStats> eldest)
+        {
+            return size() > OFFLINE_CACHE_SIZE;
+        }
+    });
+    private final Set<UUID> loadingPlayers = ConcurrentHashMap.newKeySet();
+    private final StatLeaderboard leaderboard = new StatLeaderboard(LEADERBOARD_SIZE);
+
+    private final Queue<UUID> changedPlayers = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean writeScheduled = new AtomicBoolean(false);
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(r -> new Thread(r, "BingoReloaded stats writer"));
+
+    public BingoStatData(StatStorage storage)
+    {
+        this.storage = storage;
+        runOnWriter(this::fillLeaderboard);
+        for (Player player : Bukkit.getOnlinePlayers())
+        {
+            loadPlayer(player.getUniqueId());
+        }
+    }
 
-    public BingoStatData()
+    /**
+     * Open the storage selected in the config, statistics in player_stats.yml are copied to a new database the first time it is used.
+     * Falls back to player_stats.yml if the database cannot be opened.
+     */
+    public static BingoStatData create(ConfigData.PlayerStatisticsStorage storageType)
     {
+        File statsFile = BingoReloaded.createYmlDataManager(STATS_FILE).getConfigFile();
+        File journalFile = new File(statsFile.getParentFile(), JOURNAL_FILE);
+
+        if (storageType == ConfigData.PlayerStatisticsStorage.SQLITE)
+        {
+            try
+            {
+                SqliteStatStorage database = new SqliteStatStorage(new File(statsFile.getParentFile(), DATABASE_FILE));
+                if (database.needsMigration())
+                {
+                    YmlStatStorage ymlStorage = new YmlStatStorage(statsFile, journalFile);
+                    database.migrateFrom(ymlStorage);
+                    ymlStorage.close();
+                }
+                return new BingoStatData(database);
+            }
+            catch (SQLException e)
+            {
+                ConsoleMessenger.error("Could not open player statistics database, using " + statsFile.getName() + " instead: " + e.getMessage());
+            }
+        }
+        return new BingoStatData(new YmlStatStorage(statsFile, journalFile));
     }
 
     public int getPlayerStat(UUID playerId, BingoStatType statType)
     {
-        if (statType == BingoStatType.PLAYED)
-            return getPlayerStat(playerId, BingoStatType.WINS) + getPlayerStat(playerId, BingoStatType.LOSSES);
+        return getPlayerStats(playerId).get(statType);
+    }
 
-        if (statType.idx < 0)
-            return 0;
+    /**
+     * Explicit lookup, like the stats command.
+     * If the statistics of the player are not in memory they are read from the storage right away, so this can wait on the writer thread.
+     * Use getLoadedPlayerStats() for lookups that happen all the time, like placeholders.
+     */
+    public BingoPlayerStats getPlayerStats(UUID playerId)
+    {
+        BingoPlayerStats playerStats = getKnownPlayerStats(playerId);
+        if (playerStats != null)
+        {
+            return playerStats;
+        }
 
-        String statsString = getPlayerData(playerId);
-        String[] stats = statsString.split(";");
-        return Integer.parseInt(stats[statType.idx]);
+        // Players with unsaved changes are always in memory, so the storage is up to date for this player.
+        playerStats = loadPlayerStats(playerId);
+        offlineStats.put(playerId, playerStats);
+        return playerStats;
+    }
+
+    /**
+     * @return the statistics of the player, or null if they are still being read from the storage in the background.
+     */
+    public @Nullable BingoPlayerStats getLoadedPlayerStats(UUID playerId)
+    {
+        BingoPlayerStats playerStats = getKnownPlayerStats(playerId);
+        if (playerStats == null && loadingPlayers.add(playerId))
+        {
+            runOnWriter(() -> {
+                BingoPlayerStats current = stats.get(playerId);
+                offlineStats.put(playerId, current == null ? loadPlayerStats(playerId) : current);
+                loadingPlayers.remove(playerId);
+            });
+        }
+        return playerStats;
     }
 
     public void incrementPlayerStat(Player player, BingoStatType statType)
@@ -43,19 +162,95 @@ public class BingoStatData
 
     public void incrementPlayerStat(UUID playerId, BingoStatType statType, int by)
     {
-       setPlayerStat(playerId, statType, getPlayerStat(playerId, statType) + by);
+        if (statType.idx < 0)
+            return;
+
+        changePlayerStats(playerId, current -> current.with(statType, current.get(statType) + by));
     }
 
     public void setPlayerStat(UUID playerId, BingoStatType statType, int value) {
         if (statType.idx < 0)
             return;
 
-        String statsString = getPlayerData(playerId);
-        String[] stats = statsString.split(";");
-        String newStat = Integer.toString(value);
-        stats[statType.idx] = newStat;
+        changePlayerStats(playerId, current -> current.with(statType, value));
+    }
+
+    /**
+     * Set the stat to value, but only if that is higher than the current value.
+     */
+    public void setPlayerStatIfHigher(UUID playerId, BingoStatType statType, int value)
+    {
+        if (statType.idx < 0)
+            return;
+
+        changePlayerStats(playerId, current -> value > current.get(statType) ? current.with(statType, value) : current);
+    }
 
-        setPlayerData(playerId, String.join(";", stats));
+    /**
+     * Read the statistics of the player in the background, so they are in memory by the time they are needed.
+     */
+    public void loadPlayer(UUID playerId)
+    {
+        onlinePlayers.add(playerId);
+        runOnWriter(() -> {
+            if (!stats.containsKey(playerId))
+            {
+                stats.putIfAbsent(playerId, loadPlayerStats(playerId));
+            }
+        });
+    }
+
+    /**
+     * Save the statistics of the player and forget about them, unless they have joined again in the meantime.
+     */
+    public void unloadPlayer(UUID playerId)
+    {
+        onlinePlayers.remove(playerId);
+        runOnWriter(() -> {
+            writeChanges();
+            evict(playerId);
+        });
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void handlePlayerJoin(final PlayerJoinEvent event)
+    {
+        loadPlayer(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void handlePlayerQuit(final PlayerQuitEvent event)
+    {
+        unloadPlayer(event.getPlayer().getUniqueId());
+    }
+
+    public StatLeaderboard getLeaderboard()
+    {
+        return leaderboard;
+    }
+
+    /**
+     * Write all outstanding changes and close the storage, then stop the writer thread.
+     * Blocks until everything has been written, so should only be called when the plugin is disabled.
+     */
+    public void close()
+    {
+        writer.execute(() -> {
+            writeChanges();
+            storage.close();
+        });
+        writer.shutdown();
+        try
+        {
+            if (!writer.awaitTermination(10, TimeUnit.SECONDS))
+            {
+                ConsoleMessenger.error("Timed out saving player statistics");
+            }
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
     }
 
     /**
@@ -63,16 +258,23 @@ public class BingoStatData
      * @param entriesPerPage how many entries to show including the first entry
      * @param sortedBy stat to sort the entries by
      */
-    public HologramBuilder asHologram(int firstEntry, int entriesPerPage, @Nullable BingoStatType sortedBy)
+    public HologramBuilder asHologram(HologramManager manager, int firstEntry, int entriesPerPage, @Nullable BingoStatType sortedBy)
     {
-        //TODO: implement
-        return new HologramBuilder(null);
+        BingoStatType statType = sortedBy == null ? BingoStatType.WINS : sortedBy;
+        HologramBuilder builder = new HologramBuilder(manager);
+        List<StatLeaderboard.Entry> entries = leaderboard.getTop(statType, firstEntry + entriesPerPage);
+        for (int i = firstEntry; i < entries.size(); i++)
+        {
+            StatLeaderboard.Entry entry = entries.get(i);
+            String playerName = Bukkit.getOfflinePlayer(entry.playerId()).getName();
+            builder.addLine("#" + (i + 1) + " " + (playerName == null ? "-" : playerName) + ": " + entry.value());
+        }
+        return builder;
     }
 
     public Component getPlayerStatsFormatted(UUID playerId)
     {
-        String stats = getPlayerData(playerId);
-        String[] statList = stats.split(";");
+        BingoPlayerStats playerStats = getPlayerStats(playerId);
 
         String playerName = Bukkit.getOfflinePlayer(playerId).getName();
         if (playerName == null) {
@@ -81,12 +283,12 @@ public class BingoStatData
 
         Component[] text = BingoMessage.configStringAsMultiline("{0}'s statistics: Wins: {1}, Losses: {2}, Games finished: {3}, Tasks completed: {4}, Tasks Completed Record: {5}, Wand uses: {6}", NamedTextColor.GREEN,
                 Component.text(playerName, NamedTextColor.YELLOW, TextDecoration.BOLD),
-                Component.text(statList[0], NamedTextColor.WHITE, TextDecoration.BOLD),
-                Component.text(statList[1], NamedTextColor.WHITE, TextDecoration.BOLD),
-                Component.text(Integer.parseInt(statList[0]) + Integer.parseInt(statList[1]), NamedTextColor.WHITE, TextDecoration.BOLD),
-                Component.text(statList[2], NamedTextColor.WHITE, TextDecoration.BOLD),
-                Component.text(statList[3], NamedTextColor.WHITE, TextDecoration.BOLD),
-                Component.text(statList[4], NamedTextColor.WHITE, TextDecoration.BOLD));
+                Component.text(playerStats.wins(), NamedTextColor.WHITE, TextDecoration.BOLD),
+                Component.text(playerStats.losses(), NamedTextColor.WHITE, TextDecoration.BOLD),
+                Component.text(playerStats.get(BingoStatType.PLAYED), NamedTextColor.WHITE, TextDecoration.BOLD),
+                Component.text(playerStats.tasks(), NamedTextColor.WHITE, TextDecoration.BOLD),
+                Component.text(playerStats.recordTasks(), NamedTextColor.WHITE, TextDecoration.BOLD),
+                Component.text(playerStats.wandUses(), NamedTextColor.WHITE, TextDecoration.BOLD));
 
         return Arrays.stream(text).reduce(Component::append).get();
     }
@@ -111,32 +313,163 @@ public class BingoStatData
         }
     }
 
-    private String getPlayerData(UUID playerId)
+    private UUID getPlayerUUID(String playerName)
+    {
+        // Statistics are only loaded when needed, so look at online players instead of all stored players.
+        Player bukkitPlayer = Bukkit.getPlayerExact(playerName);
+        if (bukkitPlayer == null)
+        {
+            return null;
+        }
+        return bukkitPlayer.getUniqueId();
+    }
+
+    /**
+     * @return the statistics of the player in memory, or the last known statistics of an offline player, or null if neither is known.
+     */
+    private @Nullable BingoPlayerStats getKnownPlayerStats(UUID playerId)
     {
-        return data.getConfig().getString(playerId.toString(), "0;0;0;0;0");
+        BingoPlayerStats playerStats = stats.get(playerId);
+        return playerStats != null ? playerStats : offlineStats.get(playerId);
     }
 
-    private UUID getPlayerUUID(String playerName)
+    private void runOnWriter(Runnable task)
     {
-        Map<String, Object> playerData = data.getConfig().getValues(false);
-        for (String recordName : playerData.keySet())
+        try
+        {
+            writer.execute(task);
+        }
+        catch (RejectedExecutionException e)
+        {
+            ConsoleMessenger.bug("Player statistics used after they were saved", this);
+        }
+    }
+
+    private void changePlayerStats(UUID playerId, UnaryOperator<BingoPlayerStats> change)
+    {
+        if (applyChange(playerId, change))
+        {
+            return;
+        }
+
+        // The statistics have to be read from the storage first, which is only done on the writer thread.
+        runOnWriter(() -> {
+            if (!stats.containsKey(playerId))
+            {
+                stats.putIfAbsent(playerId, loadPlayerStats(playerId));
+            }
+            applyChange(playerId, change);
+        });
+    }
+
+    /**
+     * @return false if the statistics of the player are not in memory, in which case nothing was changed.
+     */
+    private boolean applyChange(UUID playerId, UnaryOperator<BingoPlayerStats> change)
+    {
+        boolean[] leaderboardCorrect = {true};
+        BingoPlayerStats result = stats.computeIfPresent(playerId, (id, current) -> {
+            BingoPlayerStats changed = change.apply(current);
+            leaderboardCorrect[0] = leaderboard.update(id, current, changed);
+            // Added while the entry is locked, so it cannot be evicted before the change has been saved.
+            changedPlayers.add(id);
+            return changed;
+        });
+        if (result == null)
+        {
+            return false;
+        }
+
+        offlineStats.remove(playerId);
+        if (!leaderboardCorrect[0])
         {
-            UUID playerId = UUID.fromString(recordName);
-            Player bukkitPlayer = Bukkit.getPlayer(playerId);
-            if (bukkitPlayer == null) {
-                continue;
+            runOnWriter(this::fillLeaderboard);
+        }
+        if (writeScheduled.compareAndSet(false, true))
+        {
+            runOnWriter(this::writeChanges);
+        }
+        return true;
+    }
+
+    /**
+     * Fill the leaderboard using the statistics of all stored players, which reads the whole storage (writer thread only).
+     * Only needed at the start, or in the rare case that one of the best players got a lower value.
+     * The new leaderboard is filled on the side, so reading the leaderboard or changing statistics does not have to wait for the storage.
+     */
+    private void fillLeaderboard()
+    {
+        // Players are only put in memory on this thread, so the players skipped here are the ones that are added below.
+        StatLeaderboard filled = new StatLeaderboard(LEADERBOARD_SIZE);
+        storage.forEachPlayer((id, playerStats) -> {
+            // Players that are in memory may have changes that have not been saved yet.
+            if (!stats.containsKey(id))
+            {
+                filled.add(id, playerStats);
             }
-            if (bukkitPlayer.getName().equals(playerName))
+        });
+
+        // Changes to the leaderboard have to wait until the players in memory have been added, so none of them get lost.
+        synchronized (leaderboard)
+        {
+            stats.forEach(filled::add);
+            leaderboard.replaceWith(filled);
+        }
+    }
+
+    /**
+     * Forget the statistics of a player that is offline and has no unsaved changes (writer thread only).
+     * They are kept as last known statistics, so placeholders don't show EMPTY right after the player left.
+     */
+    private void evict(UUID playerId)
+    {
+        BingoPlayerStats[] evicted = {null};
+        stats.computeIfPresent(playerId, (id, current) -> {
+            if (onlinePlayers.contains(id) || changedPlayers.contains(id))
             {
-                return playerId;
+                return current;
             }
+            evicted[0] = current;
+            return null;
+        });
+        if (evicted[0] != null)
+        {
+            offlineStats.put(playerId, evicted[0]);
         }
-        return null;
     }
 
-    private void setPlayerData(UUID playerId, String statData)
+    private BingoPlayerStats loadPlayerStats(UUID playerId)
     {
-        data.getConfig().set(playerId.toString(), statData);
-        data.saveConfig();
+        BingoPlayerStats playerStats = storage.load(playerId);
+        return playerStats == null ? BingoPlayerStats.EMPTY : playerStats;
+    }
+
+    /**
+     * Save the current stats of every changed player (writer thread only).
+     */
+    private void writeChanges()
+    {
+        writeScheduled.set(false);
+        Map<UUID, BingoPlayerStats> changed = new LinkedHashMap<>();
+        UUID playerId;
+        while ((playerId = changedPlayers.poll()) != null)
+        {
+            BingoPlayerStats playerStats = stats.get(playerId);
+            if (playerStats != null)
+            {
+                changed.put(playerId, playerStats);
+            }
+        }
+        if (changed.isEmpty())
+        {
+            return;
+        }
+
+        storage.save(changed);
+        // Players that left before their changes were saved can be forgotten now.
+        for (UUID savedId : changed.keySet())
+        {
+            evict(savedId);
+        }
     }
 }
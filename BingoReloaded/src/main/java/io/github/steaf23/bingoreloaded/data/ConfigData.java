@@ -26,6 +26,12 @@ public class ConfigData
         AFTER_LEAVING_WORLD,
     }
 
+    public enum PlayerStatisticsStorage
+    {
+        YML,
+        SQLITE,
+    }
+
     public record VoteList(List<String> gamemodes, List<String> kits, List<String> cards)
     {
         public boolean isEmpty() {
@@ -33,18 +39,20 @@ public class ConfigData
         }
     }
 
-    public record HotswapConfig (int minimumExpiration, int maximumExpiration, int recoveryTime, boolean showExpirationAsDurability){}
+    public record HotswapConfig (int minimumExpiration, int maximumExpiration, int recoveryTime, boolean showExpirationAsDurability, int taskHistorySize){}
 
     // General options
     public final PluginConfiguration configuration;
     public final String defaultWorldName;
     public final String language;
     public final boolean savePlayerStatistics;
+    public final PlayerStatisticsStorage playerStatisticsStorage;
     public final String sendCommandAfterGameEnds;
     public final boolean voteUsingCommandsOnly;
     public final boolean selectTeamsUsingCommandsOnly;
     public final boolean disableScoreboardSidebar;
     public final boolean useIncludedResourcepack;
+    public final boolean useBinaryTaskLists;
 
     // Lobby options
     public final boolean singlePlayerTeams;
@@ -66,12 +74,14 @@ public class ConfigData
     public final int platformLifetime;
     public final int gracePeriod;
     public final boolean removeTaskItems;
+    public final boolean countItemsPerTeam;
     public final boolean enableTeamChat;
     public final boolean keepScoreboardVisible;
     public final boolean showPlayerInScoreboard;
     public final boolean disableAdvancements;
     public final boolean disableStatistics;
     public final boolean endGameWithoutTeams;
+    public final boolean callBukkitEvents;
     public final HotswapConfig hotswapMode;
 
     // Player data options
@@ -84,11 +94,13 @@ public class ConfigData
         this.defaultWorldName = config.getString("defaultWorldName", "world");
         this.language = "languages/" + config.getString("language", "en_us.yml");
         this.savePlayerStatistics = config.getBoolean("savePlayerStatistics", false);
+        this.playerStatisticsStorage = PlayerStatisticsStorage.valueOf(config.getString("playerStatisticsStorage", "YML"));
         this.sendCommandAfterGameEnds = config.getString("sendCommandAfterGameEnds", "");
         this.voteUsingCommandsOnly = config.getBoolean("voteUsingCommandsOnly", false);
         this.selectTeamsUsingCommandsOnly = config.getBoolean("selectTeamsUsingCommandsOnly", false);
         this.disableScoreboardSidebar = config.getBoolean("disableScoreboardSidebar", false);
         this.useIncludedResourcepack = config.getBoolean("useIncludedResourcepack", true);
+        this.useBinaryTaskLists = config.getBoolean("useBinaryTaskLists", false);
 
         // Lobby
         this.singlePlayerTeams = config.getBoolean("singlePlayerTeams", false);
@@ -113,17 +125,20 @@ public class ConfigData
         this.platformLifetime = Math.max(0, config.getInt("GoUPWand.platformLifetime", 10));
         this.gracePeriod = Math.max(0, config.getInt("gracePeriod", 30));
         this.removeTaskItems = config.getBoolean("removeTaskItems", true);
+        this.countItemsPerTeam = config.getBoolean("countItemsPerTeam", false);
         this.enableTeamChat = config.getBoolean("enableTeamChat", true);
         this.keepScoreboardVisible = config.getBoolean("keepScoreboardVisible", true);
         this.showPlayerInScoreboard = config.getBoolean("showPlayerInScoreboard", true);
         this.disableAdvancements = config.getBoolean("disableAdvancements", false);
         this.disableStatistics = config.getBoolean("disableStatistics", false);
         this.endGameWithoutTeams = config.getBoolean("endGameWithoutTeams", true);
+        this.callBukkitEvents = config.getBoolean("callBukkitEvents", true);
         this.hotswapMode = new HotswapConfig(
                 config.getInt("hotswapMode.minimumExpirationTime", 3),
                 config.getInt("hotswapMode.maximumExpirationTime", 20),
                 config.getInt("hotswapMode.recoverTime", 10),
-                config.getBoolean("hotswapMode.showExpirationAsDurability", true));
+                config.getBoolean("hotswapMode.showExpirationAsDurability", true),
+                Math.max(0, config.getInt("hotswapMode.taskHistorySize", 50)));
 
         // Player
         this.savePlayerInformation = config.getBoolean("savePlayerInformation", true);
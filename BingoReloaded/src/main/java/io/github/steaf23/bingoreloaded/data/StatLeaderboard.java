@@ -0,0 +1,200 @@
+package io.github.steaf23.bingoreloaded.data;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * Leaderboard for each statistic, updated every time the statistics of a player change.
+ * Only the best players of each statistic are kept in order, so reading the first N entries takes O(N),
+ * no matter how many players there are.
+ * To find the rank of any other player, the amount of players with each value is kept as well.
+ * Players without any statistics are not on the leaderboard.
+ */
+public class StatLeaderboard
+{
+    public record Entry(UUID playerId, int value)
+    {
+    }
+
+    // Highest value first, players with the same value are ordered by id so that the order is always the same.
+    private static final Comparator<Entry> ORDER = Comparator.comparingInt(Entry::value).reversed()
+            .thenComparing(Entry::playerId);
+
+    private static class Board
+    {
+        private final TreeSet<Entry> top = new TreeSet<>(ORDER);
+        private final Map<UUID, Entry> topEntries = new HashMap<>();
+        // Amount of players for each value, highest value first.
+        private final TreeMap<Integer, Integer> playersPerValue = new TreeMap<>(Comparator.reverseOrder());
+        // Entries of top by rank, made again when needed after top has changed.
+        private Entry[] ranked = null;
+
+        private Entry[] ranked()
+        {
+            if (ranked == null)
+            {
+                ranked = top.toArray(Entry[]::new);
+            }
+            return ranked;
+        }
+    }
+
+    private final int size;
+    private final Map<BingoStatType, Board> boards = new EnumMap<>(BingoStatType.class);
+
+    /**
+     * @param size amount of players to keep in order for each statistic.
+     */
+    public StatLeaderboard(int size)
+    {
+        this.size = size;
+        clear();
+    }
+
+    public int getSize()
+    {
+        return size;
+    }
+
+    public synchronized void clear()
+    {
+        for (BingoStatType statType : BingoStatType.values())
+        {
+            boards.put(statType, new Board());
+        }
+    }
+
+    /**
+     * Take over all entries of the given leaderboard, which should not be used anymore afterwards.
+     */
+    public synchronized void replaceWith(StatLeaderboard filled)
+    {
+        synchronized (filled)
+        {
+            boards.putAll(filled.boards);
+        }
+    }
+
+    /**
+     * Put a player on the leaderboard that is not on it yet, used to fill the leaderboard from the stored statistics.
+     */
+    public synchronized void add(UUID playerId, BingoPlayerStats stats)
+    {
+        update(playerId, BingoPlayerStats.EMPTY, stats);
+    }
+
+    /**
+     * Move the player to their new place on the leaderboard of every statistic that changed.
+     *
+     * @return false if the leaderboard could not be kept correct, because a player among the best players got a lower value.
+     * In that case it should be filled again using clear() and add().
+     */
+    public synchronized boolean update(UUID playerId, BingoPlayerStats oldStats, BingoPlayerStats newStats)
+    {
+        // Players without statistics are not counted, so their rank stays the same as before they played.
+        boolean wasCounted = !oldStats.equals(BingoPlayerStats.EMPTY);
+        boolean isCounted = !newStats.equals(BingoPlayerStats.EMPTY);
+
+        boolean correct = true;
+        for (BingoStatType statType : BingoStatType.values())
+        {
+            int oldValue = oldStats.get(statType);
+            int newValue = newStats.get(statType);
+            if (oldValue == newValue && wasCounted == isCounted)
+            {
+                continue;
+            }
+
+            Board board = boards.get(statType);
+            if (wasCounted)
+            {
+                board.playersPerValue.computeIfPresent(oldValue, (v, count) -> count == 1 ? null : count - 1);
+            }
+            if (isCounted)
+            {
+                board.playersPerValue.merge(newValue, 1, Integer::sum);
+            }
+
+            Entry oldEntry = board.topEntries.remove(playerId);
+            if (oldEntry != null)
+            {
+                board.top.remove(oldEntry);
+                board.ranked = null;
+                // Someone that is not on the top part of the board could have a higher value now.
+                if (board.top.size() + 1 >= size && (newValue < oldValue || !isCounted))
+                {
+                    correct = false;
+                }
+            }
+            if (isCounted)
+            {
+                Entry newEntry = new Entry(playerId, newValue);
+                if (board.top.size() < size || ORDER.compare(newEntry, board.top.last()) < 0)
+                {
+                    board.top.add(newEntry);
+                    board.topEntries.put(playerId, newEntry);
+                    board.ranked = null;
+                    if (board.top.size() > size)
+                    {
+                        board.topEntries.remove(board.top.pollLast().playerId());
+                    }
+                }
+            }
+        }
+        return correct;
+    }
+
+    /**
+     * @param rank 1 for the player with the highest value.
+     * @return the player at this rank, or null if there is no such player or the rank is higher than the size of this leaderboard.
+     */
+    public synchronized @Nullable Entry getEntry(BingoStatType statType, int rank)
+    {
+        Entry[] ranked = boards.get(statType).ranked();
+        if (rank < 1 || rank > ranked.length)
+        {
+            return null;
+        }
+        return ranked[rank - 1];
+    }
+
+    /**
+     * @return the best players for this statistic in order, at most count.
+     */
+    public synchronized List<Entry> getTop(BingoStatType statType, int count)
+    {
+        List<Entry> result = new ArrayList<>(Math.min(count, size));
+        for (Entry entry : boards.get(statType).top)
+        {
+            if (result.size() >= count)
+            {
+                break;
+            }
+            result.add(entry);
+        }
+        return result;
+    }
+
+    /**
+     * @return the rank the given value has, shared by all players with this value.
+     * The cost depends on the amount of different values higher than this value, not on the amount of players.
+     */
+    public synchronized int getRank(BingoStatType statType, int value)
+    {
+        int rank = 1;
+        for (int count : boards.get(statType).playersPerValue.headMap(value, false).values())
+        {
+            rank += count;
+        }
+        return rank;
+    }
+}
@@ -0,0 +1,230 @@
+package io.github.steaf23.bingoreloaded.data;
+
+import io.github.steaf23.bingoreloaded.tasks.AdvancementTask;
+import io.github.steaf23.bingoreloaded.tasks.ItemTask;
+import io.github.steaf23.bingoreloaded.tasks.StatisticTask;
+import io.github.steaf23.bingoreloaded.tasks.TaskData;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable snapshot of all cards and task lists, read from cards.yml and lists_x.yml only once.
+ * Card generation uses this catalog, so that games never have to read tasks from the yml files while they are being played.
+ * Every edit made through BingoCardData or TaskListData invalidates the current catalog, after which a new version gets built.
+ * Arrays returned by the catalog are shared and must not be modified.
+ */
+public final class TaskCatalog
+{
+    /**
+     * All unique tasks of a list, with the filtered variants precomputed for each combination of allowing statistics and advancements.
+     */
+    public static final class TaskList
+    {
+        private final String name;
+        private final TaskData[][] tasksPerFilter;
+        private final int itemCount;
+        private final int advancementCount;
+        private final int statisticCount;
+
+        private TaskList(String name, Collection<TaskData> tasks)
+        {
+            this.name = name;
+            this.tasksPerFilter = new TaskData[4][];
+            for (int filter = 0; filter < 4; filter++)
+            {
+                boolean withStatistics = (filter & 1) != 0;
+                boolean withAdvancements = (filter & 2) != 0;
+                tasksPerFilter[filter] = tasks.stream()
+                        .filter(t -> !(t instanceof StatisticTask && !withStatistics) && !(t instanceof AdvancementTask && !withAdvancements))
+                        .toArray(TaskData[]::new);
+            }
+            this.itemCount = (int)tasks.stream().filter(t -> t instanceof ItemTask).count();
+            this.advancementCount = (int)tasks.stream().filter(t -> t instanceof AdvancementTask).count();
+            this.statisticCount = (int)tasks.stream().filter(t -> t instanceof StatisticTask).count();
+        }
+
+        public String name()
+        {
+            return name;
+        }
+
+        public TaskData[] getTasks(boolean withStatistics, boolean withAdvancements)
+        {
+            return tasksPerFilter[filterIndex(withStatistics, withAdvancements)];
+        }
+
+        public int size()
+        {
+            return tasksPerFilter[filterIndex(true, true)].length;
+        }
+
+        public int itemCount()
+        {
+            return itemCount;
+        }
+
+        public int advancementCount()
+        {
+            return advancementCount;
+        }
+
+        public int statisticCount()
+        {
+            return statisticCount;
+        }
+
+        private static int filterIndex(boolean withStatistics, boolean withAdvancements)
+        {
+            return (withStatistics ? 1 : 0) | (withAdvancements ? 2 : 0);
+        }
+    }
+
+    /**
+     * A list used by a card, together with the minimum and maximum amount of tasks the card should take from it.
+     */
+    public record CardList(String listName, int min, int max)
+    {
+    }
+
+    /**
+     * @param lists lists in the order they appear in cards.yml.
+     * @param listsByMin the same lists, sorted by their minimum.
+     */
+    public record Card(String name, CardList[] lists, CardList[] listsByMin)
+    {
+    }
+
+    private static final TaskList EMPTY_LIST = new TaskList("", List.of());
+    private static final Card EMPTY_CARD = new Card("", new CardList[0], new CardList[0]);
+
+    private static @Nullable TaskCatalog current = null;
+    private static int nextVersion = 1;
+
+    private final int version;
+    private final Map<String, TaskList> lists;
+    private final Map<String, Card> cards;
+
+    private TaskCatalog(int version, Map<String, TaskList> lists, Map<String, Card> cards)
+    {
+        this.version = version;
+        this.lists = lists;
+        this.cards = cards;
+    }
+
+    /**
+     * @return the current catalog, which gets built from the yml files if it was invalidated since it was last used.
+     */
+    public static @NotNull TaskCatalog get()
+    {
+        if (current == null)
+        {
+            current = build(new BingoCardData());
+        }
+        return current;
+    }
+
+    /**
+     * Throw away the current catalog, the next call to get() will build a new version.
+     */
+    public static void invalidate()
+    {
+        current = null;
+    }
+
+    private static TaskCatalog build(BingoCardData cardsData)
+    {
+        TaskListData listsData = cardsData.lists();
+
+        Map<String, List<TaskData>> lists = listsData.getAllTasks();
+
+        Map<String, List<CardList>> cards = new HashMap<>();
+        for (String cardName : cardsData.getCardNames())
+        {
+            List<CardList> cardLists = new ArrayList<>();
+            for (String listName : cardsData.getListNames(cardName))
+            {
+                cardLists.add(new CardList(listName, cardsData.getListMin(cardName, listName), cardsData.getListMax(cardName, listName)));
+            }
+            cards.put(cardName, cardLists);
+        }
+
+        return create(lists, cards);
+    }
+
+    /**
+     * Create a catalog that is not backed by any yml file, it will not replace the current catalog.
+     * @param lists tasks of each list by list name.
+     * @param cards lists of each card by card name, in the order they should be used.
+     */
+    public static @NotNull TaskCatalog create(Map<String, ? extends Collection<TaskData>> lists, Map<String, ? extends List<CardList>> cards)
+    {
+        Map<String, TaskList> taskLists = new HashMap<>();
+        for (Map.Entry<String, ? extends Collection<TaskData>> entry : lists.entrySet())
+        {
+            // Lists can contain the same task more than once, only keep the first.
+            Set<TaskData> tasks = new LinkedHashSet<>(entry.getValue());
+            taskLists.put(entry.getKey(), new TaskList(entry.getKey(), tasks));
+        }
+
+        Map<String, Card> taskCards = new HashMap<>();
+        for (Map.Entry<String, ? extends List<CardList>> entry : cards.entrySet())
+        {
+            CardList[] inOrder = entry.getValue().toArray(CardList[]::new);
+            CardList[] byMin = inOrder.clone();
+            Arrays.sort(byMin, Comparator.comparingInt(CardList::min));
+            taskCards.put(entry.getKey(), new Card(entry.getKey(), inOrder, byMin));
+        }
+
+        synchronized (TaskCatalog.class)
+        {
+            return new TaskCatalog(nextVersion++, Map.copyOf(taskLists), Map.copyOf(taskCards));
+        }
+    }
+
+    /**
+     * @return version of this catalog, which is different for every catalog that got built.
+     */
+    public int getVersion()
+    {
+        return version;
+    }
+
+    public @NotNull TaskList getList(String listName)
+    {
+        return lists.getOrDefault(listName, EMPTY_LIST);
+    }
+
+    public boolean hasCard(String cardName)
+    {
+        return cards.containsKey(cardName);
+    }
+
+    public @NotNull Card getCard(String cardName)
+    {
+        return cards.getOrDefault(cardName, EMPTY_CARD);
+    }
+
+    /**
+     * Add all tasks from all lists of the given card to the given collection.
+     */
+    public void collectTasks(String cardName, boolean withStatistics, boolean withAdvancements, Collection<TaskData> into)
+    {
+        for (CardList cardList : getCard(cardName).lists())
+        {
+            for (TaskData task : getList(cardList.listName()).getTasks(withStatistics, withAdvancements))
+            {
+                into.add(task);
+            }
+        }
+    }
+}
@@ -1,15 +1,19 @@
 package io.github.steaf23.bingoreloaded.data;
 
 import io.github.steaf23.bingoreloaded.BingoReloaded;
+import io.github.steaf23.bingoreloaded.data.helper.TaskListBinaryFormat;
 import io.github.steaf23.bingoreloaded.data.helper.YmlDataManager;
 import io.github.steaf23.bingoreloaded.tasks.AdvancementTask;
 import io.github.steaf23.bingoreloaded.tasks.StatisticTask;
 import io.github.steaf23.bingoreloaded.tasks.TaskData;
 import io.github.steaf23.playerdisplay.util.ConsoleMessenger;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -40,6 +44,45 @@ public class TaskListData
                 !(i instanceof AdvancementTask && !withAdvancements))).collect(Collectors.toSet());
     }
 
+    /**
+     * @return tasks of every list, in the order they are saved in.
+     * If enabled in the config, they are read from the binary copy of the lists file instead, which is created when it is missing or outdated.
+     */
+    public Map<String, List<TaskData>> getAllTasks()
+    {
+        boolean useBinary = BingoReloaded.getInstance().config().useBinaryTaskLists;
+        File source = data.getConfigFile();
+        File binary = new File(source.getParentFile(), source.getName().replace(".yml", ".bin"));
+        if (useBinary)
+        {
+            Map<String, List<TaskData>> lists = TaskListBinaryFormat.readFile(source, binary);
+            if (lists != null)
+            {
+                return lists;
+            }
+        }
+
+        Map<String, List<TaskData>> lists = new LinkedHashMap<>();
+        for (String listName : getListNames())
+        {
+            List<TaskData> tasks = new ArrayList<>();
+            for (Object task : data.getConfig().getList(listName + ".tasks", List.of()))
+            {
+                if (task instanceof TaskData taskData)
+                {
+                    tasks.add(taskData);
+                }
+            }
+            lists.put(listName, tasks);
+        }
+
+        if (useBinary)
+        {
+            TaskListBinaryFormat.writeFile(lists, source, binary);
+        }
+        return lists;
+    }
+
     public int getTaskCount(String listName)
     {
         return data.getConfig().getInt(listName + ".size", 0);
@@ -72,6 +115,7 @@ public class TaskListData
         data.getConfig().set(listName + ".tasks", new ArrayList<>(savedTasks));
         data.getConfig().set(listName + ".size", savedTasks.size());
         data.saveConfig();
+        TaskCatalog.invalidate();
     }
 
     public boolean removeList(String listName)
@@ -85,6 +129,7 @@ public class TaskListData
         }
         data.getConfig().set(listName, null);
         data.saveConfig();
+        TaskCatalog.invalidate();
         return true;
     }
 
@@ -100,6 +145,7 @@ public class TaskListData
 
         data.getConfig().set(newName, list);
         data.saveConfig();
+        TaskCatalog.invalidate();
         return true;
     }
 
@@ -116,6 +162,7 @@ public class TaskListData
         data.getConfig().set(newName, list);
         data.getConfig().set(oldName, null);
         data.saveConfig();
+        TaskCatalog.invalidate();
         return true;
     }
 
@@ -0,0 +1,213 @@
+package io.github.steaf23.bingoreloaded.data.helper;
+
+import io.github.steaf23.bingoreloaded.data.BingoPlayerStats;
+import io.github.steaf23.playerdisplay.util.ConsoleMessenger;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+/**
+ * Stores player statistics in a local SQLite database file, with one row per player keyed by the player's UUID.
+ * Only the players that are asked for are read, and saved statistics are written in a single transaction.
+ * Uses the SQLite driver that comes with the server, so no other files or services are needed.
+ * All access goes through one connection, which is why every method is synchronized.
+ */
+public class SqliteStatStorage implements StatStorage
+{
+    // Stored in PRAGMA user_version, 0 means the database was just created and has not been filled from player_stats.yml yet.
+    private static final int SCHEMA_VERSION = 1;
+
+    private final Connection connection;
+    private final PreparedStatement selectPlayer;
+    private final PreparedStatement upsertPlayer;
+
+    /**
+     * @throws SQLException if the database cannot be opened, for example when the server does not come with an SQLite driver.
+     */
+    public SqliteStatStorage(File databaseFile) throws SQLException
+    {
+        this.connection = DriverManager.getConnection("jdbc:sqlite:" + databaseFile.getAbsolutePath());
+        try (Statement statement = connection.createStatement())
+        {
+            statement.execute("PRAGMA journal_mode=WAL");
+            statement.execute("PRAGMA synchronous=NORMAL");
+            statement.execute("CREATE TABLE IF NOT EXISTS player_stats (" +
+                    "uuid TEXT PRIMARY KEY NOT NULL, " +
+                    "wins INTEGER NOT NULL DEFAULT 0, " +
+                    "losses INTEGER NOT NULL DEFAULT 0, " +
+                    "tasks INTEGER NOT NULL DEFAULT 0, " +
+                    "record_tasks INTEGER NOT NULL DEFAULT 0, " +
+                    "wand_uses INTEGER NOT NULL DEFAULT 0" +
+                    ") WITHOUT ROWID");
+        }
+        this.selectPlayer = connection.prepareStatement(
+                "SELECT wins, losses, tasks, record_tasks, wand_uses FROM player_stats WHERE uuid = ?");
+        this.upsertPlayer = connection.prepareStatement(
+                "INSERT INTO player_stats (uuid, wins, losses, tasks, record_tasks, wand_uses) VALUES (?, ?, ?, ?, ?, ?) " +
+                "ON CONFLICT(uuid) DO UPDATE SET wins = excluded.wins, losses = excluded.losses, tasks = excluded.tasks, " +
+                "record_tasks = excluded.record_tasks, wand_uses = excluded.wand_uses");
+    }
+
+    /**
+     * @return true if statistics from another storage have not been copied into this database yet.
+     */
+    public synchronized boolean needsMigration()
+    {
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery("PRAGMA user_version"))
+        {
+            return result.next() && result.getInt(1) < SCHEMA_VERSION;
+        }
+        catch (SQLException e)
+        {
+            ConsoleMessenger.error("Could not read player statistics database version: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Copy all statistics from the given storage into this database (in one transaction), and remember that this has been done.
+     * Players that already have statistics in this database are overwritten.
+     */
+    public synchronized void migrateFrom(StatStorage source)
+    {
+        Map<UUID, BingoPlayerStats> stats = new HashMap<>();
+        source.forEachPlayer(stats::put);
+        if (!write(stats, "PRAGMA user_version = " + SCHEMA_VERSION))
+        {
+            return;
+        }
+        ConsoleMessenger.log("Copied statistics of " + stats.size() + " players to the player statistics database");
+    }
+
+    @Override
+    public synchronized @Nullable BingoPlayerStats load(UUID playerId)
+    {
+        try
+        {
+            selectPlayer.setString(1, playerId.toString());
+            try (ResultSet result = selectPlayer.executeQuery())
+            {
+                return result.next() ? readStats(result, 1) : null;
+            }
+        }
+        catch (SQLException e)
+        {
+            ConsoleMessenger.error("Could not read statistics of player " + playerId + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public synchronized void save(Map<UUID, BingoPlayerStats> stats)
+    {
+        write(stats, null);
+    }
+
+    @Override
+    public synchronized void forEachPlayer(BiConsumer<UUID, BingoPlayerStats> action)
+    {
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery("SELECT uuid, wins, losses, tasks, record_tasks, wand_uses FROM player_stats"))
+        {
+            while (result.next())
+            {
+                action.accept(UUID.fromString(result.getString(1)), readStats(result, 2));
+            }
+        }
+        catch (SQLException | IllegalArgumentException e)
+        {
+            ConsoleMessenger.error("Could not read player statistics database: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public synchronized void close()
+    {
+        try
+        {
+            selectPlayer.close();
+            upsertPlayer.close();
+            connection.close();
+        }
+        catch (SQLException e)
+        {
+            ConsoleMessenger.error("Could not close player statistics database: " + e.getMessage());
+        }
+    }
+
+    /**
+     * @param extraStatement statement to execute in the same transaction, or null.
+     * @return true if the statistics were written.
+     */
+    private boolean write(Map<UUID, BingoPlayerStats> stats, @Nullable String extraStatement)
+    {
+        try
+        {
+            connection.setAutoCommit(false);
+            for (Map.Entry<UUID, BingoPlayerStats> entry : stats.entrySet())
+            {
+                BingoPlayerStats playerStats = entry.getValue();
+                upsertPlayer.setString(1, entry.getKey().toString());
+                upsertPlayer.setInt(2, playerStats.wins());
+                upsertPlayer.setInt(3, playerStats.losses());
+                upsertPlayer.setInt(4, playerStats.tasks());
+                upsertPlayer.setInt(5, playerStats.recordTasks());
+                upsertPlayer.setInt(6, playerStats.wandUses());
+                upsertPlayer.addBatch();
+            }
+            upsertPlayer.executeBatch();
+            if (extraStatement != null)
+            {
+                try (Statement statement = connection.createStatement())
+                {
+                    statement.execute(extraStatement);
+                }
+            }
+            connection.commit();
+            return true;
+        }
+        catch (SQLException e)
+        {
+            ConsoleMessenger.error("Could not save player statistics: " + e.getMessage());
+            try
+            {
+                connection.rollback();
+            }
+            catch (SQLException ignored)
+            {
+            }
+            return false;
+        }
+        finally
+        {
+            try
+            {
+                connection.setAutoCommit(true);
+            }
+            catch (SQLException ignored)
+            {
+            }
+        }
+    }
+
+    private static BingoPlayerStats readStats(ResultSet result, int firstColumn) throws SQLException
+    {
+        return new BingoPlayerStats(
+                result.getInt(firstColumn),
+                result.getInt(firstColumn + 1),
+                result.getInt(firstColumn + 2),
+                result.getInt(firstColumn + 3),
+                result.getInt(firstColumn + 4));
+    }
+}
@@ -0,0 +1,36 @@
+package io.github.steaf23.bingoreloaded.data.helper;
+
+import io.github.steaf23.bingoreloaded.data.BingoPlayerStats;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+/**
+ * Place where player statistics are stored permanently.
+ * BingoStatData keeps the statistics that are in use in memory, and calls every method from a single writer thread,
+ * so reading or writing the storage never makes the server wait.
+ */
+public interface StatStorage
+{
+    /**
+     * @return the stored statistics of the player, or null if there are none.
+     */
+    @Nullable BingoPlayerStats load(UUID playerId);
+
+    /**
+     * Store the given statistics, replacing any statistics that were stored for those players before.
+     */
+    void save(Map<UUID, BingoPlayerStats> stats);
+
+    /**
+     * Call action for the statistics of every stored player.
+     */
+    void forEachPlayer(BiConsumer<UUID, BingoPlayerStats> action);
+
+    /**
+     * Finish writing everything that was saved and release any open files.
+     */
+    void close();
+}
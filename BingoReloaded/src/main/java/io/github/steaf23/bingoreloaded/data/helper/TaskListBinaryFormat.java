@@ -0,0 +1,248 @@
+package io.github.steaf23.bingoreloaded.data.helper;
+
+import io.github.steaf23.bingoreloaded.tasks.AdvancementTask;
+import io.github.steaf23.bingoreloaded.tasks.BingoStatistic;
+import io.github.steaf23.bingoreloaded.tasks.ItemTask;
+import io.github.steaf23.bingoreloaded.tasks.StatisticTask;
+import io.github.steaf23.bingoreloaded.tasks.TaskData;
+import io.github.steaf23.playerdisplay.util.ConsoleMessenger;
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.Statistic;
+import org.bukkit.entity.EntityType;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary copy of a task lists file, which can be read a lot faster than the yml file it was made from.
+ * All names (materials, advancement keys, statistics, entities) are stored once in a table at the start of the file,
+ * tasks only refer to their index in this table, so the file does not depend on enum ordinals of the server version.
+ * The tasks of each list are stored per column: all task types, then all names, then all counts, then the statistic extras.
+ * The yml file stays the source of truth, the binary file remembers which version of the yml file it was made from
+ * and will not be used anymore once the yml file changes.
+ */
+public class TaskListBinaryFormat
+{
+    private static final int MAGIC = 0x4252544C; // "BRTL"
+    private static final short FORMAT_VERSION = 1;
+
+    private static final byte TYPE_ITEM = 0;
+    private static final byte TYPE_ADVANCEMENT = 1;
+    private static final byte TYPE_STATISTIC = 2;
+
+    /**
+     * @param sourceModified last modified time of the yml file the lists were read from.
+     * @param sourceLength length of the yml file the lists were read from.
+     */
+    public static void write(Map<String, ? extends Collection<TaskData>> lists, long sourceModified, long sourceLength, DataOutputStream out) throws IOException
+    {
+        List<String> names = new ArrayList<>();
+        Map<String, Integer> nameIndices = new HashMap<>();
+
+        // Build the columns first so the name table is complete before anything gets written.
+        List<String> listNames = new ArrayList<>(lists.keySet());
+        List<byte[]> typeColumns = new ArrayList<>();
+        List<int[]> keyColumns = new ArrayList<>();
+        List<byte[]> countColumns = new ArrayList<>();
+        List<int[]> extraColumns = new ArrayList<>();
+        for (String listName : listNames)
+        {
+            indexOf(listName, names, nameIndices);
+            Collection<TaskData> tasks = lists.get(listName);
+            byte[] types = new byte[tasks.size()];
+            int[] keys = new int[tasks.size()];
+            byte[] counts = new byte[tasks.size()];
+            List<Integer> extras = new ArrayList<>();
+            int i = 0;
+            for (TaskData task : tasks)
+            {
+                switch (task)
+                {
+                    case ItemTask itemTask -> {
+                        types[i] = TYPE_ITEM;
+                        keys[i] = indexOf(itemTask.material().name(), names, nameIndices);
+                        counts[i] = (byte)itemTask.count();
+                    }
+                    case AdvancementTask advancementTask -> {
+                        types[i] = TYPE_ADVANCEMENT;
+                        keys[i] = advancementTask.advancement() == null ? -1 :
+                                indexOf(advancementTask.advancement().getKey().toString(), names, nameIndices);
+                    }
+                    case StatisticTask statisticTask -> {
+                        BingoStatistic statistic = statisticTask.statistic();
+                        types[i] = TYPE_STATISTIC;
+                        keys[i] = indexOf(statistic.stat().name(), names, nameIndices);
+                        counts[i] = (byte)statisticTask.count();
+                        extras.add(statistic.entityType() == null ? -1 : indexOf(statistic.entityType().name(), names, nameIndices));
+                        extras.add(statistic.materialType() == null ? -1 : indexOf(statistic.materialType().name(), names, nameIndices));
+                    }
+                    default -> throw new IOException("Cannot write task of type " + task.getClass().getSimpleName());
+                }
+                i++;
+            }
+            typeColumns.add(types);
+            keyColumns.add(keys);
+            countColumns.add(counts);
+            extraColumns.add(extras.stream().mapToInt(Integer::intValue).toArray());
+        }
+
+        out.writeInt(MAGIC);
+        out.writeShort(FORMAT_VERSION);
+        out.writeLong(sourceModified);
+        out.writeLong(sourceLength);
+
+        out.writeInt(names.size());
+        for (String name : names)
+        {
+            out.writeUTF(name);
+        }
+
+        out.writeInt(listNames.size());
+        for (int l = 0; l < listNames.size(); l++)
+        {
+            out.writeInt(nameIndices.get(listNames.get(l)));
+            byte[] types = typeColumns.get(l);
+            out.writeInt(types.length);
+            out.write(types);
+            for (int key : keyColumns.get(l))
+            {
+                out.writeInt(key);
+            }
+            out.write(countColumns.get(l));
+            int[] extras = extraColumns.get(l);
+            out.writeInt(extras.length);
+            for (int extra : extras)
+            {
+                out.writeInt(extra);
+            }
+        }
+    }
+
+    /**
+     * @return all lists by name with tasks in the order they were written,
+     * or null if the data was made from a different version of the yml file.
+     */
+    public static @Nullable Map<String, List<TaskData>> read(DataInputStream in, long sourceModified, long sourceLength) throws IOException
+    {
+        if (in.readInt() != MAGIC)
+        {
+            throw new IOException("Not a binary task list file");
+        }
+        if (in.readShort() != FORMAT_VERSION)
+        {
+            return null;
+        }
+        if (in.readLong() != sourceModified || in.readLong() != sourceLength)
+        {
+            return null;
+        }
+
+        String[] names = new String[in.readInt()];
+        for (int i = 0; i < names.length; i++)
+        {
+            names[i] = in.readUTF();
+        }
+
+        int listCount = in.readInt();
+        Map<String, List<TaskData>> lists = new LinkedHashMap<>();
+        for (int l = 0; l < listCount; l++)
+        {
+            String listName = names[in.readInt()];
+            byte[] types = new byte[in.readInt()];
+            in.readFully(types);
+            int[] keys = new int[types.length];
+            for (int i = 0; i < keys.length; i++)
+            {
+                keys[i] = in.readInt();
+            }
+            byte[] counts = new byte[types.length];
+            in.readFully(counts);
+            int[] extras = new int[in.readInt()];
+            for (int i = 0; i < extras.length; i++)
+            {
+                extras[i] = in.readInt();
+            }
+
+            List<TaskData> tasks = new ArrayList<>(types.length);
+            int extra = 0;
+            for (int i = 0; i < types.length; i++)
+            {
+                switch (types[i])
+                {
+                    case TYPE_ITEM -> tasks.add(new ItemTask(Material.valueOf(names[keys[i]]), counts[i]));
+                    case TYPE_ADVANCEMENT -> tasks.add(new AdvancementTask(keys[i] == -1 ? null :
+                            Bukkit.getAdvancement(NamespacedKey.fromString(names[keys[i]]))));
+                    case TYPE_STATISTIC -> {
+                        EntityType entity = extras[extra] == -1 ? null : EntityType.valueOf(names[extras[extra]]);
+                        Material material = extras[extra + 1] == -1 ? null : Material.valueOf(names[extras[extra + 1]]);
+                        extra += 2;
+                        tasks.add(new StatisticTask(new BingoStatistic(Statistic.valueOf(names[keys[i]]), entity, material), counts[i]));
+                    }
+                    default -> throw new IOException("Unknown task type " + types[i]);
+                }
+            }
+            lists.put(listName, tasks);
+        }
+        return lists;
+    }
+
+    /**
+     * Write the lists to the given file, logging an error if that is not possible.
+     */
+    public static void writeFile(Map<String, ? extends Collection<TaskData>> lists, File source, File target)
+    {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(target))))
+        {
+            write(lists, source.lastModified(), source.length(), out);
+        }
+        catch (IOException e)
+        {
+            ConsoleMessenger.error("Could not write binary task lists to " + target.getName() + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * @return the lists stored in the target file, or null if the file does not exist, cannot be read, or is older than the source file.
+     */
+    public static @Nullable Map<String, List<TaskData>> readFile(File source, File target)
+    {
+        if (!target.exists())
+        {
+            return null;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(target))))
+        {
+            return read(in, source.lastModified(), source.length());
+        }
+        catch (IOException | IllegalArgumentException | IndexOutOfBoundsException e)
+        {
+            // Names that do not exist on this server version end up here too, the yml file will be used instead.
+            ConsoleMessenger.warn("Could not read binary task lists from " + target.getName() + ", reading yml file instead: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static int indexOf(String name, List<String> names, Map<String, Integer> nameIndices)
+    {
+        return nameIndices.computeIfAbsent(name, n -> {
+            names.add(n);
+            return names.size() - 1;
+        });
+    }
+}
@@ -78,7 +78,7 @@ public class YmlDataManager
         }
     }
 
-    private File getConfigFile()
+    public File getConfigFile()
     {
         if (configFile == null)
             configFile = new File(plugin.getDataFolder(), fileName);
@@ -0,0 +1,173 @@
+package io.github.steaf23.bingoreloaded.data.helper;
+
+import io.github.steaf23.bingoreloaded.data.BingoPlayerStats;
+import io.github.steaf23.playerdisplay.util.ConsoleMessenger;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * Stores player statistics in a yml file, which is read completely when created.
+ * Saved statistics are appended to a journal file, so a crash loses nothing that has been saved,
+ * and once the journal gets long enough the whole yml file is written again and the journal is cleared.
+ * The journal always stores the full stats of a player, so reading it again after a crash at any point is safe.
+ */
+public class YmlStatStorage implements StatStorage
+{
+    // Amount of journal entries after which the yml file will be written again.
+    private static final int COMPACT_AFTER_ENTRIES = 1000;
+
+    private final File statsFile;
+    private final File journalFile;
+    private final Map<UUID, BingoPlayerStats> stats = new ConcurrentHashMap<>();
+    private int journalEntries;
+
+    public YmlStatStorage(File statsFile, File journalFile)
+    {
+        this.statsFile = statsFile;
+        this.journalFile = journalFile;
+
+        YamlConfiguration config = YamlConfiguration.loadConfiguration(statsFile);
+        for (String key : config.getKeys(false))
+        {
+            try
+            {
+                stats.put(UUID.fromString(key), BingoPlayerStats.deserialize(config.getString(key, "")));
+            }
+            catch (IllegalArgumentException e)
+            {
+                ConsoleMessenger.warn("Skipping invalid player statistics entry '" + key + "'");
+            }
+        }
+
+        journalEntries = replayJournal();
+        if (journalEntries > 0)
+        {
+            ConsoleMessenger.log("Recovered " + journalEntries + " player statistics changes from " + journalFile.getName());
+            compact();
+        }
+    }
+
+    @Override
+    public @Nullable BingoPlayerStats load(UUID playerId)
+    {
+        return stats.get(playerId);
+    }
+
+    @Override
+    public void save(Map<UUID, BingoPlayerStats> changed)
+    {
+        stats.putAll(changed);
+
+        try (BufferedWriter out = Files.newBufferedWriter(journalFile.toPath(), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND))
+        {
+            for (Map.Entry<UUID, BingoPlayerStats> entry : changed.entrySet())
+            {
+                out.write(entry.getKey() + "=" + entry.getValue().serialize());
+                out.newLine();
+            }
+        }
+        catch (IOException e)
+        {
+            ConsoleMessenger.error("Could not write player statistics journal: " + e.getMessage());
+            return;
+        }
+
+        journalEntries += changed.size();
+        if (journalEntries >= COMPACT_AFTER_ENTRIES)
+        {
+            compact();
+        }
+    }
+
+    @Override
+    public void forEachPlayer(BiConsumer<UUID, BingoPlayerStats> action)
+    {
+        stats.forEach(action);
+    }
+
+    @Override
+    public void close()
+    {
+        if (journalEntries > 0)
+        {
+            compact();
+        }
+    }
+
+    /**
+     * Write the stats of all players to the yml file and clear the journal.
+     * The file is written next to the old one first, so a crash while writing cannot leave a half written file behind.
+     */
+    private void compact()
+    {
+        YamlConfiguration snapshot = new YamlConfiguration();
+        stats.forEach((id, playerStats) -> snapshot.set(id.toString(), playerStats.serialize()));
+
+        File tempFile = new File(statsFile.getParentFile(), statsFile.getName() + ".tmp");
+        try
+        {
+            snapshot.save(tempFile);
+            Files.move(tempFile.toPath(), statsFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            Files.deleteIfExists(journalFile.toPath());
+            journalEntries = 0;
+        }
+        catch (IOException e)
+        {
+            ConsoleMessenger.error("Could not save player statistics: " + e.getMessage());
+        }
+    }
+
+    /**
+     * @return amount of entries read from the journal, later entries of the same player replace earlier ones.
+     */
+    private int replayJournal()
+    {
+        if (!journalFile.exists())
+        {
+            return 0;
+        }
+
+        int entries = 0;
+        try (BufferedReader in = Files.newBufferedReader(journalFile.toPath(), StandardCharsets.UTF_8))
+        {
+            String line;
+            while ((line = in.readLine()) != null)
+            {
+                int separator = line.indexOf('=');
+                if (separator == -1)
+                {
+                    // Most likely the last line, cut off by a crash while it was being written.
+                    continue;
+                }
+                try
+                {
+                    stats.put(UUID.fromString(line.substring(0, separator)), BingoPlayerStats.deserialize(line.substring(separator + 1)));
+                    entries++;
+                }
+                catch (IllegalArgumentException e)
+                {
+                    ConsoleMessenger.warn("Skipping invalid player statistics journal entry '" + line + "'");
+                }
+            }
+        }
+        catch (IOException e)
+        {
+            ConsoleMessenger.error("Could not read player statistics journal: " + e.getMessage());
+        }
+        return entries;
+    }
+}
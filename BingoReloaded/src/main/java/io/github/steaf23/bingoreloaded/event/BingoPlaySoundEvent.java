@@ -32,4 +32,9 @@ public class BingoPlaySoundEvent extends BingoEvent
     public float getPitch() {
         return pitch;
     }
+
+    @Override
+    public boolean isInternal() {
+        return true;
+    }
 }
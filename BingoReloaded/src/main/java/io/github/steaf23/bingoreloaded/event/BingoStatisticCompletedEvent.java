@@ -23,4 +23,9 @@ public class BingoStatisticCompletedEvent extends BingoEvent
     public BingoStatistic getStatistic() {
         return stat;
     }
+
+    @Override
+    public boolean isInternal() {
+        return true;
+    }
 }
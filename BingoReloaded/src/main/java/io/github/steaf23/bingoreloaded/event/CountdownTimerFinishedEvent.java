@@ -20,4 +20,10 @@ public class CountdownTimerFinishedEvent extends BingoEvent
     {
         return timer;
     }
+
+    @Override
+    public boolean isInternal()
+    {
+        return true;
+    }
 }
@@ -19,6 +19,13 @@ public abstract class BingoEvent extends Event
         return session;
     }
 
+    /**
+     * @return true if this event is only used within the plugin itself, meaning it's never called as a Bukkit event.
+     */
+    public boolean isInternal() {
+        return false;
+    }
+
     @NotNull
     @Override
     public HandlerList getHandlers()
@@ -0,0 +1,75 @@
+package io.github.steaf23.bingoreloaded.event.core;
+
+import io.github.steaf23.playerdisplay.util.ConsoleMessenger;
+import org.bukkit.Bukkit;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Delivers bingo events to the plugin's own subscribers directly, without going through Bukkit's plugin manager.
+ * Every event type has its own array of subscribers, which also contains the subscribers of its super types (e.g. a deathmatch
+ * task completion also gets delivered to subscribers of task completions), just like Bukkit does.
+ * Events that other plugins can use are also called as Bukkit events afterward, if enabled in the config.
+ */
+public class BingoEventBus
+{
+    @SuppressWarnings("rawtypes")
+    private static final Consumer[] NO_SUBSCRIBERS = new Consumer[0];
+
+    private final boolean callBukkitEvents;
+    private final Map<Class<?>, List<Consumer<? extends BingoEvent>>> subscribers;
+    // Subscribers of each event type that has been called, including subscribers of its super types.
+    @SuppressWarnings("rawtypes")
+    private final Map<Class<?>, Consumer[]> subscribersPerType;
+
+    public BingoEventBus(boolean callBukkitEvents) {
+        this.callBukkitEvents = callBukkitEvents;
+        this.subscribers = new HashMap<>();
+        this.subscribersPerType = new HashMap<>();
+    }
+
+    public <T extends BingoEvent> void subscribe(@NotNull Class<T> eventType, @NotNull Consumer<T> subscriber) {
+        subscribers.computeIfAbsent(eventType, type -> new ArrayList<>()).add(subscriber);
+        subscribersPerType.clear();
+    }
+
+    public void unsubscribeAll() {
+        subscribers.clear();
+        subscribersPerType.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    public void call(@NotNull BingoEvent event) {
+        for (Consumer<BingoEvent> subscriber : subscribersPerType.computeIfAbsent(event.getClass(), this::collectSubscribers)) {
+            try {
+                subscriber.accept(event);
+            } catch (Exception e) {
+                ConsoleMessenger.error("Could not pass " + event.getEventName() + " to subscriber: " + e);
+                e.printStackTrace();
+            }
+        }
+
+        if (callBukkitEvents && !event.isInternal()) {
+            Bukkit.getPluginManager().callEvent(event);
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private Consumer[] collectSubscribers(Class<?> eventType) {
+        List<Consumer<? extends BingoEvent>> result = new ArrayList<>();
+        // Subscribers of super types get called first.
+        List<Class<?>> types = new ArrayList<>();
+        for (Class<?> type = eventType; type != null && BingoEvent.class.isAssignableFrom(type); type = type.getSuperclass()) {
+            types.addFirst(type);
+        }
+        for (Class<?> type : types) {
+            result.addAll(subscribers.getOrDefault(type, List.of()));
+        }
+        return result.isEmpty() ? NO_SUBSCRIBERS : result.toArray(new Consumer[0]);
+    }
+}
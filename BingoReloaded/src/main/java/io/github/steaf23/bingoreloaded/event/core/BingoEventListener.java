@@ -18,46 +18,57 @@ import io.github.steaf23.bingoreloaded.gameloop.phase.BingoGame;
 import org.bukkit.World;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
-import org.bukkit.event.entity.EntityDamageEvent;
-import org.bukkit.event.entity.EntityPickupItemEvent;
-import org.bukkit.event.entity.PlayerDeathEvent;
-import org.bukkit.event.inventory.InventoryClickEvent;
-import org.bukkit.event.player.PlayerAdvancementDoneEvent;
 import org.bukkit.event.player.PlayerDropItemEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
-import org.bukkit.event.player.PlayerItemDamageEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
-import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.event.player.PlayerPortalEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
-import org.bukkit.event.player.PlayerRespawnEvent;
-import org.bukkit.event.player.PlayerStatisticIncrementEvent;
 import org.bukkit.event.player.PlayerTeleportEvent;
 import org.bukkit.inventory.EquipmentSlot;
 import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nullable;
 
+/**
+ * Listens to events that are needed regardless of which phase the sessions are in.
+ * Events that only matter while a game is being played are handled by the phase listeners (see PhaseListeners).
+ */
 public class BingoEventListener implements Listener
 {
-    private final boolean disableAdvancements;
     private final boolean disableStatistics;
     private final GameManager gameManager;
 
-    public BingoEventListener(GameManager gameManager, boolean disableAdvancements, boolean disableStatistics)
+    public BingoEventListener(GameManager gameManager, boolean disableStatistics)
     {
         this.gameManager = gameManager;
-        this.disableAdvancements = disableAdvancements;
         this.disableStatistics = disableStatistics;
     }
 
+    /**
+     * Subscribe to all bingo events, these are not received through Bukkit.
+     */
+    public void subscribe(BingoEventBus bus)
+    {
+        bus.subscribe(BingoEndedEvent.class, this::handleBingoGameEnded);
+        bus.subscribe(BingoTaskProgressCompletedEvent.class, this::handleTaskProgressCompleted);
+        bus.subscribe(BingoDeathmatchTaskCompletedEvent.class, this::handleDeathmatchTaskCompleted);
+        bus.subscribe(CountdownTimerFinishedEvent.class, this::handleCountdownFinished);
+        bus.subscribe(BingoStatisticCompletedEvent.class, this::handleBingoStatisticCompleted);
+        bus.subscribe(BingoSettingsUpdatedEvent.class, this::handleSettingsUpdated);
+        bus.subscribe(PlayerJoinedSessionWorldEvent.class, this::handlePlayerJoinedSessionWorld);
+        bus.subscribe(PlayerLeftSessionWorldEvent.class, this::handlePlayerLeftSessionWorld);
+        bus.subscribe(ParticipantJoinedTeamEvent.class, this::handleParticipantJoinedTeam);
+        bus.subscribe(ParticipantLeftTeamEvent.class, this::handleParticipantLeftTeam);
+        bus.subscribe(BingoPlaySoundEvent.class, this::handleBingoPlaySoundEvent);
+        bus.subscribe(PrepareNextBingoGameEvent.class, this::handlePrepareNextBingoGameEvent);
+    }
+
     @Nullable
     private BingoSession getSession(@NotNull World world)
     {
         return gameManager.getSessionFromWorld(world);
     }
 
-    @EventHandler
     public void handleBingoGameEnded(final BingoEndedEvent event)
     {
         if (event.getSession() != null)
@@ -66,7 +77,6 @@ public class BingoEventListener implements Listener
         }
     }
 
-    @EventHandler
     public void handleTaskProgressCompleted(final BingoTaskProgressCompletedEvent event) {
         BingoSession session = event.getSession();
         BingoGame game = session != null && session.isRunning() ? (BingoGame)session.phase() : null;
@@ -76,7 +86,6 @@ public class BingoEventListener implements Listener
         }
     }
 
-    @EventHandler
     public void handleDeathmatchTaskCompleted(final BingoDeathmatchTaskCompletedEvent event) {
         BingoSession session = event.getSession();
         BingoGame game = session != null && session.isRunning() ? (BingoGame)session.phase() : null;
@@ -121,40 +130,6 @@ public class BingoEventListener implements Listener
         session.phase().handlePlayerInteract(event);
     }
 
-    @EventHandler
-    public void handleEntityDamage(final EntityDamageEvent event)
-    {
-        BingoSession session = getSession(event.getEntity().getWorld());
-        BingoGame game = session != null && session.isRunning() ? (BingoGame)session.phase() : null;
-        if (game != null)
-        {
-            game.handleEntityDamage(event);
-        }
-    }
-
-    @EventHandler
-    public void handlePlayerDeath(final PlayerDeathEvent event)
-    {
-        BingoSession session = getSession(event.getEntity().getWorld());
-        BingoGame game = session != null && session.isRunning() ? (BingoGame)session.phase() : null;
-        if (game != null)
-        {
-            game.handlePlayerDeath(event);
-        }
-    }
-
-    @EventHandler
-    public void handlePlayerRespawn(final PlayerRespawnEvent event)
-    {
-        BingoSession session = getSession(event.getPlayer().getWorld());
-        BingoGame game = session != null && session.isRunning() ? (BingoGame)session.phase() : null;
-        if (game != null)
-        {
-            game.handlePlayerRespawn(event);
-        }
-    }
-
-    @EventHandler
     public void handleCountdownFinished(final CountdownTimerFinishedEvent event)
     {
         BingoGame game = event.getSession() != null && event.getSession().isRunning() ? (BingoGame)event.getSession().phase() : null;
@@ -164,42 +139,6 @@ public class BingoEventListener implements Listener
         }
     }
 
-    @EventHandler
-    public void handlePlayerAdvancementCompleted(final PlayerAdvancementDoneEvent event)
-    {
-        if (disableAdvancements)
-            return;
-
-        BingoSession session = getSession(event.getPlayer().getWorld());
-        BingoGame game = session != null && session.isRunning() ? (BingoGame)session.phase() : null;
-        if (game != null)
-        {
-            game.getProgressTracker().handlePlayerAdvancementDone(event);
-        }
-    }
-
-    @EventHandler
-    public void handlePlayerPickupItem(final EntityPickupItemEvent event)
-    {
-        BingoSession session = getSession(event.getEntity().getWorld());
-        BingoGame game = session != null && session.isRunning() ? (BingoGame)session.phase() : null;
-        if (game != null && game.hasStarted())
-        {
-            game.getProgressTracker().handlePlayerPickupItem(event);
-        }
-    }
-
-    @EventHandler
-    public void handleInventoryClicked(final InventoryClickEvent event)
-    {
-        BingoSession session = getSession(event.getWhoClicked().getWorld());
-        BingoGame game = session != null && session.isRunning() ? (BingoGame)session.phase() : null;
-        if (game != null && game.hasStarted())
-        {
-            game.getProgressTracker().handleInventoryClicked(event);
-        }
-    }
-
     @EventHandler
     public void handlePlayerJoinsServer(final PlayerJoinEvent event)
     {
@@ -218,31 +157,6 @@ public class BingoEventListener implements Listener
         gameManager.handlePlayerTeleport(event);
     }
 
-    @EventHandler
-    public void onPlayerItemDamaged(PlayerItemDamageEvent event)
-    {
-        BingoSession session = getSession(event.getPlayer().getWorld());
-        if (session != null && session.isRunning())
-        {
-            ((BingoGame)session.phase()).handlePlayerItemDamaged(event);
-        }
-    }
-
-    @EventHandler
-    public void handleStatisticIncrement(final PlayerStatisticIncrementEvent event)
-    {
-        if (disableStatistics)
-            return;
-
-        BingoSession session = getSession(event.getPlayer().getWorld());
-        BingoGame game = session != null && session.isRunning() ? (BingoGame)session.phase() : null;
-        if (game != null)
-        {
-            game.getProgressTracker().handlePlayerStatIncrement(event);
-        }
-    }
-
-    @EventHandler
     public void handleBingoStatisticCompleted(final BingoStatisticCompletedEvent event)
     {
         if (disableStatistics)
@@ -256,19 +170,6 @@ public class BingoEventListener implements Listener
         }
     }
 
-    @EventHandler
-    public void handlePlayerMove(final PlayerMoveEvent event)
-    {
-        BingoSession session = getSession(event.getPlayer().getWorld());
-        if (session == null)
-            return;
-
-        if (session.isRunning())
-        {
-            ((BingoGame)session.phase()).handlePlayerMove(event);
-        }
-    }
-
     @EventHandler
     public void handlePlayerPortal(final PlayerPortalEvent event) {
         BingoSession session = getSession(event.getFrom().getWorld());
@@ -278,40 +179,34 @@ public class BingoEventListener implements Listener
         session.handlePlayerPortalEvent(event);
     }
 
-    @EventHandler
     public void handleSettingsUpdated(final BingoSettingsUpdatedEvent event)
     {
         event.getSession().handleSettingsUpdated(event);
     }
 
-    @EventHandler
     public void handlePlayerJoinedSessionWorld(final PlayerJoinedSessionWorldEvent event)
     {
         event.getSession().handlePlayerJoinedSessionWorld(event);
     }
 
-    @EventHandler
     public void handlePlayerLeftSessionWorld(final PlayerLeftSessionWorldEvent event)
     {
         event.getSession().handlePlayerLeftSessionWorld(event);
     }
 
-    @EventHandler
     public void handleParticipantJoinedTeam(final ParticipantJoinedTeamEvent event) {
+        gameManager.handleParticipantJoinedTeam(event);
         event.getSession().handleParticipantJoinedTeam(event);
     }
 
-    @EventHandler
     public void handleParticipantLeftTeam(final ParticipantLeftTeamEvent event) {
         event.getSession().handleParticipantLeftTeam(event);
     }
 
-    @EventHandler
     public void handleBingoPlaySoundEvent(final BingoPlaySoundEvent event) {
         event.getSession().handlePlaySoundEvent(event);
     }
 
-    @EventHandler
     public void handlePrepareNextBingoGameEvent(final PrepareNextBingoGameEvent event) {
         gameManager.handlePrepareNextBingoGame(event);
     }
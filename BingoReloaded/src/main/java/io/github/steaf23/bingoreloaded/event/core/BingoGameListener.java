@@ -0,0 +1,183 @@
+package io.github.steaf23.bingoreloaded.event.core;
+
+import io.github.steaf23.bingoreloaded.gameloop.BingoSession;
+import io.github.steaf23.bingoreloaded.gameloop.GameManager;
+import io.github.steaf23.bingoreloaded.gameloop.phase.BingoGame;
+import io.github.steaf23.bingoreloaded.tasks.tracker.StatisticTracker;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityDamageEvent;
+import org.bukkit.event.entity.EntityPickupItemEvent;
+import org.bukkit.event.entity.PlayerDeathEvent;
+import org.bukkit.event.inventory.CraftItemEvent;
+import org.bukkit.event.inventory.FurnaceExtractEvent;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryMoveItemEvent;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.event.player.PlayerAdvancementDoneEvent;
+import org.bukkit.event.player.PlayerItemDamageEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.event.player.PlayerStatisticIncrementEvent;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.Nullable;
+
+/**
+ * Listens to the events that are only relevant while a game is being played.
+ * Only registered while at least one session is in the BingoGame phase.
+ */
+public class BingoGameListener implements Listener
+{
+    private final boolean disableAdvancements;
+    private final boolean disableStatistics;
+    private final GameManager gameManager;
+
+    public BingoGameListener(GameManager gameManager, boolean disableAdvancements, boolean disableStatistics)
+    {
+        this.gameManager = gameManager;
+        this.disableAdvancements = disableAdvancements;
+        this.disableStatistics = disableStatistics;
+    }
+
+    @Nullable
+    private BingoSession getSession(@NotNull World world)
+    {
+        return gameManager.getSessionFromWorld(world);
+    }
+
+    @EventHandler
+    public void handleEntityDamage(final EntityDamageEvent event)
+    {
+        BingoSession session = getSession(event.getEntity().getWorld());
+        BingoGame game = session != null && session.isRunning() ? (BingoGame)session.phase() : null;
+        if (game != null)
+        {
+            game.handleEntityDamage(event);
+        }
+    }
+
+    @EventHandler
+    public void handlePlayerDeath(final PlayerDeathEvent event)
+    {
+        BingoSession session = getSession(event.getEntity().getWorld());
+        BingoGame game = session != null && session.isRunning() ? (BingoGame)session.phase() : null;
+        if (game != null)
+        {
+            game.handlePlayerDeath(event);
+        }
+    }
+
+    @EventHandler
+    public void handlePlayerRespawn(final PlayerRespawnEvent event)
+    {
+        BingoSession session = getSession(event.getPlayer().getWorld());
+        BingoGame game = session != null && session.isRunning() ? (BingoGame)session.phase() : null;
+        if (game != null)
+        {
+            game.handlePlayerRespawn(event);
+        }
+    }
+
+    @EventHandler
+    public void handlePlayerAdvancementCompleted(final PlayerAdvancementDoneEvent event)
+    {
+        if (disableAdvancements)
+            return;
+
+        BingoSession session = getSession(event.getPlayer().getWorld());
+        BingoGame game = session != null && session.isRunning() ? (BingoGame)session.phase() : null;
+        if (game != null)
+        {
+            game.getProgressTracker().handlePlayerAdvancementDone(event);
+        }
+    }
+
+    @EventHandler
+    public void handlePlayerPickupItem(final EntityPickupItemEvent event)
+    {
+        BingoSession session = getSession(event.getEntity().getWorld());
+        BingoGame game = session != null && session.isRunning() ? (BingoGame)session.phase() : null;
+        if (game != null && game.hasStarted())
+        {
+            game.getProgressTracker().handlePlayerPickupItem(event);
+        }
+    }
+
+    @EventHandler
+    public void handleInventoryClicked(final InventoryClickEvent event)
+    {
+        BingoSession session = getSession(event.getWhoClicked().getWorld());
+        BingoGame game = session != null && session.isRunning() ? (BingoGame)session.phase() : null;
+        if (game != null && game.hasStarted())
+        {
+            game.getProgressTracker().handleInventoryClicked(event);
+        }
+    }
+
+    @EventHandler(ignoreCancelled = true)
+    public void handleCraftItem(final CraftItemEvent event)
+    {
+        BingoSession session = getSession(event.getWhoClicked().getWorld());
+        BingoGame game = session != null && session.isRunning() ? (BingoGame)session.phase() : null;
+        if (game != null && game.hasStarted())
+        {
+            game.getProgressTracker().handleCraftItem(event);
+        }
+    }
+
+    @EventHandler
+    public void handleFurnaceExtract(final FurnaceExtractEvent event)
+    {
+        BingoSession session = getSession(event.getPlayer().getWorld());
+        BingoGame game = session != null && session.isRunning() ? (BingoGame)session.phase() : null;
+        if (game != null && game.hasStarted())
+        {
+            game.getProgressTracker().handleFurnaceExtract(event);
+        }
+    }
+
+    @EventHandler(ignoreCancelled = true)
+    public void handleInventoryMoveItem(final InventoryMoveItemEvent event)
+    {
+        // Hoppers fire this event all the time, so check if the items go into a player's inventory before doing anything else.
+        if (event.getDestination().getType() != InventoryType.PLAYER || !(event.getDestination().getHolder() instanceof Player player))
+            return;
+
+        BingoSession session = getSession(player.getWorld());
+        BingoGame game = session != null && session.isRunning() ? (BingoGame)session.phase() : null;
+        if (game != null && game.hasStarted())
+        {
+            game.getProgressTracker().handleInventoryMoveItem(event);
+        }
+    }
+
+    @EventHandler
+    public void onPlayerItemDamaged(PlayerItemDamageEvent event)
+    {
+        BingoSession session = getSession(event.getPlayer().getWorld());
+        if (session != null && session.isRunning())
+        {
+            ((BingoGame)session.phase()).handlePlayerItemDamaged(event);
+        }
+    }
+
+    @EventHandler
+    public void handleStatisticIncrement(final PlayerStatisticIncrementEvent event)
+    {
+        if (disableStatistics)
+            return;
+
+        // Most increments are not part of any game, so get rid of those before looking up the session.
+        if (!StatisticTracker.isStatisticTracked(event.getStatistic(), event.getEntityType(), event.getMaterial()))
+            return;
+
+        BingoSession session = getSession(event.getPlayer().getWorld());
+        BingoGame game = session != null && session.isRunning() ? (BingoGame)session.phase() : null;
+        if (game != null)
+        {
+            game.getProgressTracker().handlePlayerStatIncrement(event);
+        }
+    }
+}
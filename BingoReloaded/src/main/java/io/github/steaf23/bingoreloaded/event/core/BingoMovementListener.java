@@ -0,0 +1,46 @@
+package io.github.steaf23.bingoreloaded.event.core;
+
+import io.github.steaf23.bingoreloaded.gameloop.BingoSession;
+import io.github.steaf23.bingoreloaded.gameloop.GameManager;
+import io.github.steaf23.bingoreloaded.gameloop.phase.BingoGame;
+import org.bukkit.World;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.Nullable;
+
+/**
+ * PlayerMoveEvent gets called very often, so it has a listener of its own.
+ * Only registered while a game is counting down to its start (to keep players on their platforms),
+ * or while a game has travel statistics that need to know when players move.
+ */
+public class BingoMovementListener implements Listener
+{
+    private final GameManager gameManager;
+
+    public BingoMovementListener(GameManager gameManager)
+    {
+        this.gameManager = gameManager;
+    }
+
+    @Nullable
+    private BingoSession getSession(@NotNull World world)
+    {
+        return gameManager.getSessionFromWorld(world);
+    }
+
+    @EventHandler
+    public void handlePlayerMove(final PlayerMoveEvent event)
+    {
+        BingoSession session = getSession(event.getPlayer().getWorld());
+        if (session == null)
+            return;
+
+        if (session.isRunning())
+        {
+            ((BingoGame)session.phase()).handlePlayerMove(event);
+        }
+    }
+}
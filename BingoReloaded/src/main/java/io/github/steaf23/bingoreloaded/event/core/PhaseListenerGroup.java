@@ -0,0 +1,52 @@
+package io.github.steaf23.bingoreloaded.event.core;
+
+import org.bukkit.Bukkit;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Listener that is only registered while at least one game phase uses it.
+ * Multiple sessions can share the same group, so it stays registered until the last of them releases it.
+ */
+public class PhaseListenerGroup
+{
+    private final JavaPlugin plugin;
+    private final Listener listener;
+    private int users;
+
+    public PhaseListenerGroup(@NotNull JavaPlugin plugin, @NotNull Listener listener) {
+        this.plugin = plugin;
+        this.listener = listener;
+        this.users = 0;
+    }
+
+    public void acquire() {
+        if (users++ == 0) {
+            Bukkit.getPluginManager().registerEvents(listener, plugin);
+        }
+    }
+
+    public void release() {
+        if (users == 0) {
+            return;
+        }
+
+        if (--users == 0) {
+            HandlerList.unregisterAll(listener);
+        }
+    }
+
+    public boolean isRegistered() {
+        return users > 0;
+    }
+
+    /**
+     * Unregister the listener, regardless of how many phases still use it.
+     */
+    public void unregister() {
+        users = 0;
+        HandlerList.unregisterAll(listener);
+    }
+}
@@ -0,0 +1,15 @@
+package io.github.steaf23.bingoreloaded.event.core;
+
+/**
+ * Listener groups that get registered by game phases when they start, and unregistered when they end.
+ * Servers without a running game don't pay for events only a game is interested in.
+ * @param game handles events needed during a game, e.g. to track task progress.
+ * @param movement handles player movement during the starting countdown and for travel statistics.
+ */
+public record PhaseListeners(PhaseListenerGroup game, PhaseListenerGroup movement)
+{
+    public void unregisterAll() {
+        game.unregister();
+        movement.unregister();
+    }
+}
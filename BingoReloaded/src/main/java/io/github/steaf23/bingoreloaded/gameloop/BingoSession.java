@@ -1,9 +1,9 @@
 package io.github.steaf23.bingoreloaded.gameloop;
 
 import io.github.steaf23.bingoreloaded.BingoReloaded;
-import io.github.steaf23.bingoreloaded.data.BingoCardData;
 import io.github.steaf23.bingoreloaded.data.BingoMessage;
 import io.github.steaf23.bingoreloaded.data.ConfigData;
+import io.github.steaf23.bingoreloaded.data.TaskCatalog;
 import io.github.steaf23.bingoreloaded.data.world.WorldGroup;
 import io.github.steaf23.bingoreloaded.event.BingoEndedEvent;
 import io.github.steaf23.bingoreloaded.event.BingoPlaySoundEvent;
@@ -13,6 +13,7 @@ import io.github.steaf23.bingoreloaded.event.ParticipantLeftTeamEvent;
 import io.github.steaf23.bingoreloaded.event.PlayerJoinedSessionWorldEvent;
 import io.github.steaf23.bingoreloaded.event.PlayerLeftSessionWorldEvent;
 import io.github.steaf23.bingoreloaded.event.PrepareNextBingoGameEvent;
+import io.github.steaf23.bingoreloaded.event.core.PhaseListeners;
 import io.github.steaf23.bingoreloaded.gameloop.phase.BingoGame;
 import io.github.steaf23.bingoreloaded.gameloop.phase.GamePhase;
 import io.github.steaf23.bingoreloaded.gameloop.phase.PostGamePhase;
@@ -64,16 +65,18 @@ public class BingoSession implements ForwardingAudience
     private final MenuBoard menuBoard;
     private final HUDRegistry hudRegistry;
     private final TeamDisplay teamDisplay;
+    private final PhaseListeners phaseListeners;
 
     // A bingo session controls 1 group of worlds
     private final WorldGroup worlds;
     private GamePhase phase;
 
-    public BingoSession(MenuBoard menuBoard, HUDRegistry hudRegistry, @NotNull WorldGroup worlds, ConfigData config) {
+    public BingoSession(MenuBoard menuBoard, HUDRegistry hudRegistry, @NotNull WorldGroup worlds, ConfigData config, PhaseListeners phaseListeners) {
         this.menuBoard = menuBoard;
         this.hudRegistry = hudRegistry;
         this.worlds = worlds;
         this.config = config;
+        this.phaseListeners = phaseListeners;
         if (config.disableScoreboardSidebar) {
             this.scoreboard =  new DisabledBingoGameHUDGroup(hudRegistry, this, config.showPlayerInScoreboard);
         } else {
@@ -108,6 +111,10 @@ public class BingoSession implements ForwardingAudience
         return phase;
     }
 
+    public PhaseListeners getPhaseListeners() {
+        return phaseListeners;
+    }
+
     public void startGame() {
         if (!(phase instanceof PregameLobby lobby)) {
             ConsoleMessenger.error("Cannot start a game on this world if it is not in the lobby phase!");
@@ -116,9 +123,8 @@ public class BingoSession implements ForwardingAudience
 
         BingoSettingsBuilder gameSettings = determineSettingsByVote(lobby);
 
-        BingoCardData cardsData = new BingoCardData();
         BingoSettings settings = settingsBuilder.view();
-        if (!cardsData.getCardNames().contains(settings.card())) {
+        if (!TaskCatalog.get().hasCard(settings.card())) {
             BingoMessage.NO_CARD.sendToAudience(this, NamedTextColor.RED, Component.text(settings.card()));
             return;
         }
@@ -134,7 +140,7 @@ public class BingoSession implements ForwardingAudience
 
         // First make sure the previous phase (PregameLobby) is ended.
         phase.end();
-        phase = new BingoGame(this, gameSettings == null ? settings : gameSettings.view(), config);
+        phase = new BingoGame(this, gameSettings == null ? settings : gameSettings.view(), config, lobby.getPregeneratedCard());
         phase.setup();
     }
 
@@ -155,7 +161,7 @@ public class BingoSession implements ForwardingAudience
     public void prepareNextGame() {
         teamManager.reset();
         var event = new PrepareNextBingoGameEvent(this);
-        Bukkit.getPluginManager().callEvent(event);
+        BingoReloaded.callBingoEvent(event);
 
         // When we came from the PostGamePhase we need to make sure to end it properly
         if (phase != null) {
@@ -197,14 +203,14 @@ public class BingoSession implements ForwardingAudience
 
     public void addPlayer(Player player) {
         var joinedWorldEvent = new PlayerJoinedSessionWorldEvent(player, this);
-        Bukkit.getPluginManager().callEvent(joinedWorldEvent);
+        BingoReloaded.callBingoEvent(joinedWorldEvent);
 
         BingoReloaded.sendResourcePack(player);
     }
 
     public void removePlayer(Player player) {
         var leftWorldEvent = new PlayerLeftSessionWorldEvent(player, this);
-        Bukkit.getPluginManager().callEvent(leftWorldEvent);
+        BingoReloaded.callBingoEvent(leftWorldEvent);
     }
 
     public void handlePlayerDropItem(final PlayerDropItemEvent dropEvent) {
@@ -5,8 +5,14 @@ import io.github.steaf23.bingoreloaded.data.PlayerSerializationData;
 import io.github.steaf23.bingoreloaded.data.helper.SerializablePlayer;
 import io.github.steaf23.bingoreloaded.data.world.WorldData;
 import io.github.steaf23.bingoreloaded.data.world.WorldGroup;
+import io.github.steaf23.bingoreloaded.event.ParticipantJoinedTeamEvent;
 import io.github.steaf23.bingoreloaded.event.PrepareNextBingoGameEvent;
+import io.github.steaf23.bingoreloaded.event.core.BingoEventBus;
 import io.github.steaf23.bingoreloaded.event.core.BingoEventListener;
+import io.github.steaf23.bingoreloaded.event.core.BingoGameListener;
+import io.github.steaf23.bingoreloaded.event.core.BingoMovementListener;
+import io.github.steaf23.bingoreloaded.event.core.PhaseListenerGroup;
+import io.github.steaf23.bingoreloaded.event.core.PhaseListeners;
 import io.github.steaf23.bingoreloaded.player.BingoParticipant;
 import io.github.steaf23.bingoreloaded.player.BingoPlayer;
 import io.github.steaf23.playerdisplay.inventory.MenuBoard;
@@ -27,10 +33,14 @@ import org.jetbrains.annotations.Nullable;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 
 public class GameManager
 {
     protected final Map<String, BingoSession> sessions;
+    // Lookup tables for the event listeners, so they don't have to go through every session for every event.
+    private final Map<UUID, BingoSession> sessionPerWorld;
+    private final Map<UUID, BingoSession> sessionPerPlayer;
 
     private final JavaPlugin plugin;
     private final ConfigData config;
@@ -39,22 +49,29 @@ public class GameManager
 
     private final PlayerSerializationData playerData;
     private final BingoEventListener eventListener;
+    private final PhaseListeners phaseListeners;
 
     private boolean teleportingPlayer;
 
-    public GameManager(@NotNull JavaPlugin plugin, ConfigData config, MenuBoard menuBoard, HUDRegistry hudRegistry) {
+    public GameManager(@NotNull JavaPlugin plugin, ConfigData config, MenuBoard menuBoard, HUDRegistry hudRegistry, BingoEventBus eventBus) {
         this.plugin = plugin;
         this.config = config;
         this.menuBoard = menuBoard;
         this.hudRegistry = hudRegistry;
 
         this.sessions = new HashMap<>();
+        this.sessionPerWorld = new HashMap<>();
+        this.sessionPerPlayer = new HashMap<>();
         this.playerData = new PlayerSerializationData();
-        this.eventListener = new BingoEventListener(this, config.disableAdvancements, config.disableStatistics);
+        this.eventListener = new BingoEventListener(this, config.disableStatistics);
+        this.phaseListeners = new PhaseListeners(
+                new PhaseListenerGroup(plugin, new BingoGameListener(this, config.disableAdvancements, config.disableStatistics)),
+                new PhaseListenerGroup(plugin, new BingoMovementListener(this)));
 
         this.teleportingPlayer = false;
 
         Bukkit.getPluginManager().registerEvents(eventListener, plugin);
+        eventListener.subscribe(eventBus);
     }
 
     public boolean createSession(String sessionName) {
@@ -63,11 +80,19 @@ public class GameManager
             return false;
         }
 
-        BingoSession session = new BingoSession(menuBoard, hudRegistry, WorldData.createWorldGroup(plugin, sessionName), config);
-        sessions.put(sessionName, session);
+        WorldGroup worlds = WorldData.createWorldGroup(plugin, sessionName);
+        BingoSession session = new BingoSession(menuBoard, hudRegistry, worlds, config, phaseListeners);
+        addSession(sessionName, session, worlds);
         return true;
     }
 
+    protected void addSession(String sessionName, BingoSession session, WorldGroup worlds) {
+        sessions.put(sessionName, session);
+        sessionPerWorld.put(worlds.overworldId(), session);
+        sessionPerWorld.put(worlds.netherId(), session);
+        sessionPerWorld.put(worlds.endId(), session);
+    }
+
     public boolean destroySession(String sessionName) {
         if (!sessions.containsKey(sessionName)) {
             return false;
@@ -80,8 +105,10 @@ public class GameManager
             return false;
         }
         WorldData.destroyWorldGroup(plugin, WorldData.getWorldGroup(plugin, sessionName));
-        sessions.get(sessionName).destroy();
-        sessions.remove(sessionName);
+        BingoSession session = sessions.remove(sessionName);
+        session.destroy();
+        sessionPerWorld.values().removeIf(s -> s == session);
+        sessionPerPlayer.values().removeIf(s -> s == session);
         return true;
     }
 
@@ -119,13 +146,7 @@ public class GameManager
     }
 
     public @Nullable BingoSession getSessionFromWorld(@NotNull World world) {
-        for (String session : sessions.keySet()) {
-            BingoSession s = sessions.get(session);
-            if (s.ownsWorld(world)) {
-                return s;
-            }
-        }
-        return null;
+        return sessionPerWorld.get(world.getUID());
     }
 
     public String getNameOfSession(@Nullable BingoSession session) {
@@ -138,12 +159,17 @@ public class GameManager
 
     public void onPluginDisable() {
         HandlerList.unregisterAll(eventListener);
+        phaseListeners.unregisterAll();
 
         for (String session : sessions.keySet()) {
             sessions.get(session).destroy();
         }
     }
 
+    protected PhaseListeners getPhaseListeners() {
+        return phaseListeners;
+    }
+
     public ConfigData getGameConfig() {
         return config;
     }
@@ -166,16 +192,15 @@ public class GameManager
         return true;
     }
 
+    /**
+     * @return the session in which the player is participating, based on the last session the player entered or joined a team in.
+     */
     public @Nullable BingoSession getSessionOfPlayer(Player player) {
-        for (String sessionName : sessions.keySet()) {
-            BingoSession session = sessions.get(sessionName);
-            BingoParticipant participant = session.teamManager.getPlayerAsParticipant(player);
-            if (participant != null) {
-                return session;
-            }
+        BingoSession session = sessionPerPlayer.get(player.getUniqueId());
+        if (session == null || session.teamManager.getPlayerAsParticipant(player) == null) {
+            return null;
         }
-
-        return null;
+        return session;
     }
 
     public Collection<String> getSessionNames() {
@@ -251,6 +276,7 @@ public class GameManager
 
             // set spawn point of player in session world
             event.getPlayer().setRespawnLocation(targetSession.getOverworld().getSpawnLocation(), true);
+            sessionPerPlayer.put(event.getPlayer().getUniqueId(), targetSession);
             targetSession.addPlayer(event.getPlayer());
         }
     }
@@ -259,6 +285,7 @@ public class GameManager
         BingoSession targetSession = getSessionFromWorld(event.getPlayer().getWorld());
 
         if (targetSession != null) {
+            sessionPerPlayer.put(event.getPlayer().getUniqueId(), targetSession);
             targetSession.addPlayer(event.getPlayer());
         }
     }
@@ -269,6 +296,18 @@ public class GameManager
         if (sourceSession != null) {
             sourceSession.removePlayer(event.getPlayer());
         }
+
+        // Players that are still participating can rejoin the game later, so only forget about the others.
+        if (getSessionOfPlayer(event.getPlayer()) == null) {
+            sessionPerPlayer.remove(event.getPlayer().getUniqueId());
+        }
+    }
+
+    public void handleParticipantJoinedTeam(final ParticipantJoinedTeamEvent event) {
+        // Participants can be put in a team without being in the session's world, for example using autobingo.
+        if (event.getParticipant() instanceof BingoPlayer player) {
+            sessionPerPlayer.put(player.getId(), event.getSession());
+        }
     }
 
     public void handlePrepareNextBingoGame(final PrepareNextBingoGameEvent event) {
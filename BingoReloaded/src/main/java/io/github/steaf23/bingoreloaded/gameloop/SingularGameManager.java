@@ -2,6 +2,7 @@ package io.github.steaf23.bingoreloaded.gameloop;
 
 import io.github.steaf23.bingoreloaded.data.ConfigData;
 import io.github.steaf23.bingoreloaded.data.world.WorldGroup;
+import io.github.steaf23.bingoreloaded.event.core.BingoEventBus;
 import io.github.steaf23.playerdisplay.inventory.MenuBoard;
 import io.github.steaf23.playerdisplay.scoreboard.HUDRegistry;
 import io.github.steaf23.playerdisplay.util.ConsoleMessenger;
@@ -12,16 +13,16 @@ import org.jetbrains.annotations.NotNull;
 
 public class SingularGameManager extends GameManager
 {
-    public SingularGameManager(@NotNull JavaPlugin plugin, ConfigData config, MenuBoard menuBoard, HUDRegistry hudRegistry) {
-        super(plugin, config, menuBoard, hudRegistry);
+    public SingularGameManager(@NotNull JavaPlugin plugin, ConfigData config, MenuBoard menuBoard, HUDRegistry hudRegistry, BingoEventBus eventBus) {
+        super(plugin, config, menuBoard, hudRegistry, eventBus);
 
         WorldGroup group = createWorldGroupFromExistingWorlds();
         if (group == null) {
             return;
         }
 
-        BingoSession session = new BingoSession(menuBoard, hudRegistry, group, config);
-        sessions.put(config.defaultWorldName, session);
+        BingoSession session = new BingoSession(menuBoard, hudRegistry, group, config, getPhaseListeners());
+        addSession(config.defaultWorldName, session, group);
     }
 
     @Override
@@ -3,6 +3,7 @@ package io.github.steaf23.bingoreloaded.gameloop.phase;
 import io.github.steaf23.bingoreloaded.BingoReloaded;
 import io.github.steaf23.bingoreloaded.cards.CardFactory;
 import io.github.steaf23.bingoreloaded.cards.LockoutTaskCard;
+import io.github.steaf23.bingoreloaded.cards.PregeneratedCard;
 import io.github.steaf23.bingoreloaded.cards.TaskCard;
 import io.github.steaf23.bingoreloaded.data.BingoCardData;
 import io.github.steaf23.bingoreloaded.data.BingoMessage;
@@ -19,6 +20,7 @@ import io.github.steaf23.bingoreloaded.event.ParticipantJoinedTeamEvent;
 import io.github.steaf23.bingoreloaded.event.ParticipantLeftTeamEvent;
 import io.github.steaf23.bingoreloaded.event.PlayerJoinedSessionWorldEvent;
 import io.github.steaf23.bingoreloaded.event.PlayerLeftSessionWorldEvent;
+import io.github.steaf23.bingoreloaded.event.core.PhaseListeners;
 import io.github.steaf23.bingoreloaded.gameloop.BingoSession;
 import io.github.steaf23.bingoreloaded.gui.hud.BingoGameHUDGroup;
 import io.github.steaf23.bingoreloaded.gui.inventory.EffectOptionFlags;
@@ -26,11 +28,13 @@ import io.github.steaf23.bingoreloaded.player.BingoParticipant;
 import io.github.steaf23.bingoreloaded.player.BingoPlayer;
 import io.github.steaf23.bingoreloaded.player.PlayerRespawnManager;
 import io.github.steaf23.bingoreloaded.player.team.BingoTeam;
+import io.github.steaf23.bingoreloaded.player.team.BingoTeamContainer;
 import io.github.steaf23.bingoreloaded.player.team.TeamManager;
 import io.github.steaf23.bingoreloaded.settings.BingoGamemode;
 import io.github.steaf23.bingoreloaded.settings.BingoSettings;
 import io.github.steaf23.bingoreloaded.settings.PlayerKit;
 import io.github.steaf23.bingoreloaded.tasks.GameTask;
+import io.github.steaf23.bingoreloaded.tasks.TaskData;
 import io.github.steaf23.bingoreloaded.tasks.tracker.TaskProgressTracker;
 import io.github.steaf23.bingoreloaded.util.ActionBarManager;
 import io.github.steaf23.bingoreloaded.util.BingoPlayerSender;
@@ -72,12 +76,16 @@ import org.jetbrains.annotations.NotNull;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
 public class BingoGame implements GamePhase
 {
+    // Milliseconds per tick that can be spent on setting up the game while the starting countdown runs.
+    private static final long START_PIPELINE_TICK_BUDGET = 10;
+
     private final BingoSession session;
     private final BingoSettings settings;
     private final BingoGameHUDGroup scoreboard;
@@ -87,15 +95,27 @@ public class BingoGame implements GamePhase
     private final ConfigData config;
     private GameTimer timer;
     private CountdownTimer startingTimer;
+    private GameStartPipeline startPipeline;
     private boolean gameStarted;
+    private boolean holdsGameListeners;
+    private boolean holdsMovementListener;
     private final ActionBarManager actionBarManager;
     //Used to override bed spawns if they get broken to reset spawn point to game spawn point.
     private final Map<UUID, Location> playerSpawnPoints;
 
     private GameTask deathMatchTask;
+    private final @Nullable PregeneratedCard pregeneratedCard;
 
     public BingoGame(@NotNull BingoSession session, @NotNull BingoSettings settings, @NotNull ConfigData config) {
+        this(session, settings, config, null);
+    }
+
+    /**
+     * @param pregeneratedCard tasks generated in advance by the lobby, which will be used if they were generated for the same card settings.
+     */
+    public BingoGame(@NotNull BingoSession session, @NotNull BingoSettings settings, @NotNull ConfigData config, @Nullable PregeneratedCard pregeneratedCard) {
         this.session = session;
+        this.pregeneratedCard = pregeneratedCard;
         this.config = config;
         this.teamManager = session.teamManager;
         this.scoreboard = session.scoreboard;
@@ -103,12 +123,14 @@ public class BingoGame implements GamePhase
         this.actionBarManager = new ActionBarManager(session);
         this.progressTracker = new TaskProgressTracker(this);
 
-        this.respawnManager = new PlayerRespawnManager(BingoReloaded.getInstance(), config.teleportAfterDeathPeriod);
+        this.respawnManager = new PlayerRespawnManager(config.teleportAfterDeathPeriod);
         this.playerSpawnPoints = new HashMap<>();
     }
 
     private void start() {
         this.gameStarted = false;
+        this.holdsGameListeners = false;
+        this.holdsMovementListener = false;
 
         timer = settings.enableCountdown()
             ? new CountdownTimer(settings.countdownDuration() * 60, 5 * 60, 60, session)
@@ -120,7 +142,6 @@ public class BingoGame implements GamePhase
                 Component timerMessage = timer.getTimeDisplayMessage(false);
                 actionBarManager.requestMessage(p -> timerMessage, 0);
                 actionBarManager.update();
-                getProgressTracker().updateStatisticProgress();
                 scoreboard.updateVisible();
             });
 
@@ -134,19 +155,28 @@ public class BingoGame implements GamePhase
         world.setTime(1000);
 
         // Generate cards
-        boolean useAdvancements = !(BingoReloaded.areAdvancementsDisabled() || config.disableAdvancements);
+        boolean useAdvancements = useAdvancements(config);
+        boolean useStatistics = !config.disableStatistics;
         //TODO create viewType config option, but for now try to use textured for testing.
         TaskCard masterCard = CardFactory.fromGame(session.getMenuManager(), this, PlayerDisplay.useCustomTextures());
-        masterCard.generateCard(settings.card(), settings.seed(), useAdvancements, !config.disableStatistics);
+        List<TaskData> generatedTasks = null;
+        if (pregeneratedCard != null && pregeneratedCard.matches(settings.card(), settings.size(), settings.seed(), useStatistics, useAdvancements)) {
+            generatedTasks = pregeneratedCard.getIfDone();
+        }
+        if (generatedTasks != null) {
+            masterCard.fillCard(generatedTasks, settings.card(), settings.seed(), useAdvancements, useStatistics);
+        } else {
+            // Settings changed after the lobby generated the card, or it was not done yet.
+            masterCard.generateCard(settings.card(), settings.seed(), useAdvancements, useStatistics);
+        }
         if (masterCard instanceof LockoutTaskCard lockoutCard) {
             lockoutCard.teamCount = getTeamManager().getTeamCount();
         }
-        Set<TaskCard> uniqueCards = new HashSet<>();
         getTeamManager().getActiveTeams().forEach(t -> {
             t.outOfTheGame = false;
             t.setCard(masterCard.copy());
-            uniqueCards.add(t.getCard());
         });
+        getTeamManager().getActiveTeams().updateAllScores();
 
         BingoMessage.GIVE_CARDS.sendToAudience(session);
         teleportPlayersToStart(world);
@@ -170,31 +200,47 @@ public class BingoGame implements GamePhase
                 Component.empty(),
                 ""), session);
 
-        getTeamManager().getParticipants().forEach(p ->
-        {
-            if (p.sessionPlayer().isPresent()) {
-                Player player = p.sessionPlayer().get();
+        // Remove players that are not online first, so the remaining setup only has to be done for actual players.
+        getTeamManager().getParticipants().forEach(p -> {
+            if (p.sessionPlayer().isEmpty() && !p.alwaysActive()) {
+                // If the player is not online, we can remove them from the game, as they probably did not intend on playing in this session
+                session.removeParticipant(p);
+            }
+        });
 
+        // The rest of the setup is spread over multiple ticks while the starting countdown is running.
+        startPipeline = new GameStartPipeline(START_PIPELINE_TICK_BUDGET);
+        for (BingoParticipant p : getTeamManager().getParticipants()) {
+            startPipeline.addStep("kits", () -> p.sessionPlayer().ifPresent(player -> {
                 p.giveKit(settings.kit());
                 returnCardToPlayer(settings.kit().getCardSlot(), p);
                 player.setLevel(0);
                 player.setExp(0.0f);
-                scoreboard.addPlayer(player);
-            } else if (!p.alwaysActive()){
-                // If the player is not online, we can remove them from the game, as they probably did not intend on playing in this session
-                session.removeParticipant(p);
-            }
-        });
+            }));
+        }
 
-        for (TaskCard card : uniqueCards) {
-            card.getTasks().forEach(t -> getProgressTracker().startTrackingTask(t));
+        for (BingoTeam team : getTeamManager().getActiveTeams()) {
+            TaskCard card = team.getCard();
+            if (card == null) {
+                continue;
+            }
+            // Revokes advancement criteria and resets statistics for every member of the team.
+            for (GameTask task : card.getTasks()) {
+                startPipeline.addStep("task tracking", () -> getProgressTracker().startTrackingTask(task, team));
+            }
         }
 
+        for (BingoParticipant p : getTeamManager().getParticipants()) {
+            startPipeline.addStep("hud", () -> p.sessionPlayer().ifPresent(scoreboard::addPlayer));
+        }
         // Post-start Setup
-        scoreboard.setup(settings);
+        startPipeline.addStep("hud", () -> scoreboard.setup(settings));
 
-        var event = new BingoStartedEvent(session);
-        Bukkit.getPluginManager().callEvent(event);
+        startPipeline.addStep("started event", () -> {
+            var event = new BingoStartedEvent(session);
+            BingoReloaded.callBingoEvent(event);
+        });
+        startPipeline.start();
 
         // Countdown before the game actually starts
         startingTimer = new CountdownTimer(Math.max(1, config.startingCountdownTime), 6, 3, session);
@@ -222,8 +268,8 @@ public class BingoGame implements GamePhase
             if (time <= startingTimer.lowThreshold && time > 0) {
                 var soundEvent = new BingoPlaySoundEvent(session, Sound.BLOCK_NOTE_BLOCK_BIT, 1.2f - time / 10.0f + 0.2f, pitch);
                 var soundEvent2 = new BingoPlaySoundEvent(session, Sound.BLOCK_NOTE_BLOCK_PLING, 1.2f - time / 10.0f + 0.2f, pitch);
-                Bukkit.getPluginManager().callEvent(soundEvent);
-                Bukkit.getPluginManager().callEvent(soundEvent2);
+                BingoReloaded.callBingoEvent(soundEvent);
+                BingoReloaded.callBingoEvent(soundEvent2);
             }
         });
         BingoReloaded.scheduleTask(task -> startingTimer.start(), BingoReloaded.ONE_SECOND);
@@ -236,8 +282,13 @@ public class BingoGame implements GamePhase
     public void end(@Nullable BingoTeam winningTeam) {
         // If the starting timer was still running
         startingTimer.stop();
+        if (startPipeline != null) {
+            startPipeline.cancel();
+        }
         BingoPlayerSender.sendMessage(timer.getTimeDisplayMessage(false), session);
         timer.stop();
+        progressTracker.stopTrackingStatistics();
+        releaseListeners();
 
         if (!config.keepScoreboardVisible) {
             scoreboard.setup(settings);
@@ -246,15 +297,12 @@ public class BingoGame implements GamePhase
         getTeamManager().getParticipants().forEach(p -> {
             p.takeEffects(false);
             p.sessionPlayer().ifPresent(player -> {
-                int tasksCompleted = p.getAmountOfTaskCompleted();
-                if (tasksCompleted > BingoReloaded.getPlayerStat(player, BingoStatType.RECORD_TASKS)) {
-                    BingoReloaded.setPlayerStat(player, BingoStatType.RECORD_TASKS, tasksCompleted);
-                }
+                BingoReloaded.setPlayerStatIfHigher(player, BingoStatType.RECORD_TASKS, p.getAmountOfTaskCompleted());
             });
         });
 
         var soundEvent = new BingoPlaySoundEvent(session, Sound.ENTITY_LIGHTNING_BOLT_THUNDER);
-        Bukkit.getPluginManager().callEvent(soundEvent);
+        BingoReloaded.callBingoEvent(soundEvent);
 
         String command = config.sendCommandAfterGameEnds;
         if (!command.isEmpty()) {
@@ -263,7 +311,7 @@ public class BingoGame implements GamePhase
 
         BingoPlayerSender.sendMessage(Component.text(" "), session);
         var event = new BingoEndedEvent(getGameTime(), winningTeam, session);
-        Bukkit.getPluginManager().callEvent(event);
+        BingoReloaded.callBingoEvent(event);
     }
 
     public void bingo(BingoTeam team) {
@@ -281,7 +329,7 @@ public class BingoGame implements GamePhase
             }
         }
         var event = new BingoPlaySoundEvent(session, Sound.UI_TOAST_CHALLENGE_COMPLETE, 0.75f, 1.0f);
-        Bukkit.getPluginManager().callEvent(event);
+        BingoReloaded.callBingoEvent(event);
         end(team);
     }
 
@@ -326,7 +374,7 @@ public class BingoGame implements GamePhase
         BingoMessage.DEATHMATCH_START.sendToAudience(session);
 
         var soundEvent = new BingoPlaySoundEvent(session, Sound.ENTITY_PARROT_IMITATE_GHAST);
-        Bukkit.getPluginManager().callEvent(soundEvent);
+        BingoReloaded.callBingoEvent(soundEvent);
 
         startDeathMatchRecurse(seconds);
     }
@@ -335,6 +383,7 @@ public class BingoGame implements GamePhase
     private void startDeathMatchRecurse(int countdown) {
         if (countdown == 0) {
             deathMatchTask = new GameTask(new BingoCardData().getRandomItemTask(settings.card()));
+            progressTracker.startTrackingDeathMatchTask(deathMatchTask);
 
             BingoPlayerSender.sendTitle(
                     Component.text("GO").color(NamedTextColor.GOLD).decorate(TextDecoration.BOLD),
@@ -350,7 +399,7 @@ public class BingoGame implements GamePhase
             }
 
             var event = new BingoPlaySoundEvent(session, Sound.ENTITY_GHAST_SHOOT);
-            Bukkit.getPluginManager().callEvent(event);
+            BingoReloaded.callBingoEvent(event);
             return;
         }
 
@@ -373,6 +422,13 @@ public class BingoGame implements GamePhase
                 () -> BingoMessage.RESPAWN_EXPIRED.sendToAudience(player, NamedTextColor.RED));
     }
 
+    /**
+     * @return true if cards generated for games using this config can contain advancement tasks.
+     */
+    public static boolean useAdvancements(ConfigData config) {
+        return !(BingoReloaded.areAdvancementsDisabled() || config.disableAdvancements);
+    }
+
     public static void spawnPlatform(Location platformLocation, int size, boolean clearArea) {
         for (int x = -size; x < size + 1; x++) {
             for (int z = -size; z < size + 1; z++) {
@@ -431,7 +487,7 @@ public class BingoGame implements GamePhase
                     if (!getTeamManager().getParticipants().isEmpty()) {
                         spawnPlatform(platformLocation.clone(), 5, true);
 
-                        BingoReloaded.scheduleTask(task ->
+                        BingoReloaded.getScheduler().runAtLocation(platformLocation, task ->
                                 BingoGame.removePlatform(platformLocation, 5), (long) (Math.max(0, config.gracePeriod - 5)) * BingoReloaded.ONE_SECOND);
                     }
                 }
@@ -446,7 +502,7 @@ public class BingoGame implements GamePhase
                     if (!players.isEmpty()) {
                         spawnPlatform(teamLocation, 5, true);
 
-                        BingoReloaded.scheduleTask(task ->
+                        BingoReloaded.getScheduler().runAtLocation(teamLocation, task ->
                                 BingoGame.removePlatform(teamLocation, 5), (long) (Math.max(0, config.gracePeriod - 5)) * BingoReloaded.ONE_SECOND);
                     }
                 }
@@ -458,7 +514,7 @@ public class BingoGame implements GamePhase
                 if (!getTeamManager().getParticipants().isEmpty()) {
                     spawnPlatform(spawnLocation, 5, true);
 
-                    BingoReloaded.scheduleTask(task ->
+                    BingoReloaded.getScheduler().runAtLocation(spawnLocation, task ->
                             BingoGame.removePlatform(spawnLocation, 5), (long) (Math.max(0, config.gracePeriod - 5)) * BingoReloaded.ONE_SECOND);
                 }
             }
@@ -541,8 +597,9 @@ public class BingoGame implements GamePhase
                 timeString.color(NamedTextColor.WHITE));
 
         var soundEvent = new BingoPlaySoundEvent(session, Sound.ENTITY_DRAGON_FIREBALL_EXPLODE);
-        Bukkit.getPluginManager().callEvent(soundEvent);
+        BingoReloaded.callBingoEvent(soundEvent);
 
+        teamManager.getActiveTeams().updateScore(participant.getTeam());
         scoreboard.updateTeamScores();
 
         participant.sessionPlayer().ifPresent(player -> {
@@ -694,9 +751,10 @@ public class BingoGame implements GamePhase
                 return;
             }
 
-            int leadingPoints = leadingTeam.getCompleteCount();
-            for (BingoTeam team : getTeamManager().getActiveTeams()) {
-                if (team.getCompleteCount() == leadingPoints) {
+            BingoTeamContainer activeTeams = getTeamManager().getActiveTeams();
+            int leadingPoints = activeTeams.getScore(leadingTeam);
+            for (BingoTeam team : activeTeams) {
+                if (activeTeams.getScore(team) == leadingPoints) {
                     tiedTeams.add(team);
                 } else {
                     team.outOfTheGame = true;
@@ -710,18 +768,28 @@ public class BingoGame implements GamePhase
                 startDeathMatch(5);
             }
         } else if (event.getTimer() == startingTimer) {
+            // Whatever setup is left has to be done before anyone can start playing.
+            startPipeline.finish();
             timer.start();
             gameStarted = true;
+            // Players are no longer frozen, so movement only matters for travel statistics from now on.
+            if (!needsMovementDuringGame()) {
+                releaseMovementListener();
+            }
             var soundEvent = new BingoPlaySoundEvent(session, Sound.ENTITY_FIREWORK_ROCKET_LARGE_BLAST);
             var soundEvent2 = new BingoPlaySoundEvent(session, Sound.ENTITY_FIREWORK_ROCKET_LAUNCH);
-            Bukkit.getPluginManager().callEvent(soundEvent);
-            Bukkit.getPluginManager().callEvent(soundEvent2);
+            BingoReloaded.callBingoEvent(soundEvent);
+            BingoReloaded.callBingoEvent(soundEvent2);
         }
     }
 
     public void handlePlayerMove(final PlayerMoveEvent event) {
-        if (gameStarted)
+        if (gameStarted) {
+            if (event.hasChangedPosition()) {
+                progressTracker.markParticipantMoved(event.getPlayer().getUniqueId());
+            }
             return;
+        }
 
         BingoParticipant participant = teamManager.getPlayerAsParticipant(event.getPlayer());
         if (participant == null)
@@ -746,6 +814,11 @@ public class BingoGame implements GamePhase
 
     @Override
     public void setup() {
+        PhaseListeners listeners = session.getPhaseListeners();
+        listeners.game().acquire();
+        listeners.movement().acquire();
+        holdsGameListeners = true;
+        holdsMovementListener = true;
         start();
     }
 
@@ -754,6 +827,29 @@ public class BingoGame implements GamePhase
         end(null);
     }
 
+    private boolean needsMovementDuringGame() {
+        if (config.disableStatistics) {
+            return false;
+        }
+        // Hotswap can put new travel statistics on the card at any time.
+        return settings.mode() == BingoGamemode.HOTSWAP || progressTracker.tracksTravelStatistics();
+    }
+
+    private void releaseMovementListener() {
+        if (holdsMovementListener) {
+            session.getPhaseListeners().movement().release();
+            holdsMovementListener = false;
+        }
+    }
+
+    private void releaseListeners() {
+        releaseMovementListener();
+        if (holdsGameListeners) {
+            session.getPhaseListeners().game().release();
+            holdsGameListeners = false;
+        }
+    }
+
 
     @Override
     public void handleSettingsUpdated(BingoSettingsUpdatedEvent event) {
@@ -771,6 +867,7 @@ public class BingoGame implements GamePhase
         if (!(participant instanceof BingoPlayer player))
             return;
 
+        progressTracker.markParticipantMoved(player.getId());
         player.giveEffects(settings.effects(), config.gracePeriod);
     }
 
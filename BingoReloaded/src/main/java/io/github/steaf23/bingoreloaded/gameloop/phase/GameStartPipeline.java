@@ -0,0 +1,134 @@
+package io.github.steaf23.bingoreloaded.gameloop.phase;
+
+import io.github.steaf23.bingoreloaded.BingoReloaded;
+import io.github.steaf23.bingoreloaded.util.scheduler.SchedulerTask;
+import io.github.steaf23.playerdisplay.util.ConsoleMessenger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Spreads the work of starting a game over multiple ticks, so that large games don't freeze the server when they start.
+ * Work is divided in stages that each consist of small steps, which are executed in the order they were added.
+ * Every tick steps are executed until the time budget for that tick runs out.
+ * When all stages are done the time spent on each stage gets logged.
+ */
+public class GameStartPipeline
+{
+    private static class Stage
+    {
+        private final String name;
+        private final Deque<Runnable> steps;
+        private int stepCount;
+        private long duration;
+        private int ticks;
+
+        public Stage(String name) {
+            this.name = name;
+            this.steps = new ArrayDeque<>();
+            this.stepCount = 0;
+            this.duration = 0;
+            this.ticks = 0;
+        }
+    }
+
+    private final List<Stage> stages;
+    private final long tickBudgetNanos;
+    private int currentStage;
+    private @Nullable SchedulerTask task;
+    private boolean done;
+
+    public GameStartPipeline(long tickBudgetMillis) {
+        this.stages = new ArrayList<>();
+        this.tickBudgetNanos = tickBudgetMillis * 1_000_000;
+        this.currentStage = 0;
+        this.task = null;
+        this.done = false;
+    }
+
+    /**
+     * Add a step to the stage with the given name, stages are created in the order they are first used.
+     */
+    public void addStep(@NotNull String stageName, @NotNull Runnable step) {
+        Stage stage = stages.isEmpty() ? null : stages.getLast();
+        if (stage == null || !stage.name.equals(stageName)) {
+            stage = stages.stream().filter(s -> s.name.equals(stageName)).findFirst().orElse(null);
+        }
+        if (stage == null) {
+            stage = new Stage(stageName);
+            stages.add(stage);
+        }
+        stage.steps.add(step);
+        stage.stepCount++;
+    }
+
+    public void start() {
+        if (task != null || done) {
+            return;
+        }
+        task = BingoReloaded.getScheduler().runGlobalTimer(() -> runSteps(tickBudgetNanos), 0, 1);
+    }
+
+    /**
+     * Run all remaining steps right now, for when the game cannot continue without them.
+     */
+    public void finish() {
+        runSteps(Long.MAX_VALUE);
+    }
+
+    /**
+     * Stop the pipeline without running the remaining steps.
+     */
+    public void cancel() {
+        stopTask();
+        done = true;
+    }
+
+    public boolean isDone() {
+        return done;
+    }
+
+    private void runSteps(long budgetNanos) {
+        if (done) {
+            return;
+        }
+
+        long tickStart = System.nanoTime();
+        while (currentStage < stages.size()) {
+            Stage stage = stages.get(currentStage);
+            stage.ticks++;
+            while (!stage.steps.isEmpty()) {
+                if (System.nanoTime() - tickStart >= budgetNanos) {
+                    return;
+                }
+
+                long stepStart = System.nanoTime();
+                stage.steps.poll().run();
+                stage.duration += System.nanoTime() - stepStart;
+            }
+            currentStage++;
+        }
+
+        stopTask();
+        done = true;
+        logTimings();
+    }
+
+    private void stopTask() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    private void logTimings() {
+        for (Stage stage : stages) {
+            ConsoleMessenger.log(String.format("Game start stage '%s': %d steps in %.2f ms, over %d tick(s)",
+                    stage.name, stage.stepCount, stage.duration / 1_000_000.0, stage.ticks));
+        }
+    }
+}
@@ -2,6 +2,7 @@ package io.github.steaf23.bingoreloaded.gameloop.phase;
 
 import io.github.steaf23.bingoreloaded.BingoReloaded;
 import io.github.steaf23.bingoreloaded.cards.CardSize;
+import io.github.steaf23.bingoreloaded.cards.PregeneratedCard;
 import io.github.steaf23.bingoreloaded.data.BingoMessage;
 import io.github.steaf23.bingoreloaded.data.ConfigData;
 import io.github.steaf23.bingoreloaded.event.BingoSettingsUpdatedEvent;
@@ -15,6 +16,7 @@ import io.github.steaf23.bingoreloaded.gui.hud.DisabledBingoSettingsHUDGroup;
 import io.github.steaf23.bingoreloaded.gui.inventory.TeamSelectionMenu;
 import io.github.steaf23.bingoreloaded.gui.inventory.VoteMenu;
 import io.github.steaf23.bingoreloaded.settings.BingoGamemode;
+import io.github.steaf23.bingoreloaded.settings.BingoSettings;
 import io.github.steaf23.bingoreloaded.settings.PlayerKit;
 import io.github.steaf23.bingoreloaded.util.timer.CountdownTimer;
 import io.github.steaf23.playerdisplay.inventory.MenuBoard;
@@ -58,6 +60,7 @@ public class PregameLobby implements GamePhase
 
     private boolean playerCountTimerPaused = false;
     private boolean gameStarted = false;
+    private @Nullable PregeneratedCard nextCard = null;
 
     public PregameLobby(MenuBoard menuBoard, HUDRegistry hudRegistry, BingoSession session, ConfigData config) {
         this.menuBoard = menuBoard;
@@ -99,6 +102,7 @@ public class PregameLobby implements GamePhase
 
         ticket.gamemode = gamemode;
         votes.put(player.getUniqueId(), ticket);
+        pregenerateNextCard();
 
         int count = 0;
         for (VoteTicket t : votes.values()) {
@@ -130,6 +134,7 @@ public class PregameLobby implements GamePhase
 
         ticket.card = card;
         votes.put(player.getUniqueId(), ticket);
+        pregenerateNextCard();
 
         int count = 0;
         for (VoteTicket t : votes.values()) {
@@ -201,6 +206,33 @@ public class PregameLobby implements GamePhase
         return recordKey;
     }
 
+    /**
+     * Start generating the card for the settings the game would start with right now, unless that card is already being generated.
+     */
+    private void pregenerateNextCard() {
+        BingoSettings settings = session.settingsBuilder.view();
+        if (config.useVoteSystem) {
+            VoteTicket voteResult = getVoteResult();
+            if (!voteResult.isEmpty()) {
+                settings = session.settingsBuilder.getVoteResult(voteResult).view();
+            }
+        }
+
+        boolean withStatistics = !config.disableStatistics;
+        boolean withAdvancements = BingoGame.useAdvancements(config);
+        if (nextCard != null && nextCard.matches(settings.card(), settings.size(), settings.seed(), withStatistics, withAdvancements)) {
+            return;
+        }
+        nextCard = PregeneratedCard.generateAsync(settings.card(), settings.size(), settings.seed(), withStatistics, withAdvancements);
+    }
+
+    /**
+     * @return card generated in advance for the settings that were known last, it may not match the settings the game starts with.
+     */
+    public @Nullable PregeneratedCard getPregeneratedCard() {
+        return nextCard;
+    }
+
     private void giveVoteItem(Player player) {
         player.getInventory().addItem(PlayerKit.VOTE_ITEM.buildItem(false));
     }
@@ -284,6 +316,7 @@ public class PregameLobby implements GamePhase
         } else {
             settingsHUD.setStatus(BingoMessage.PLAYER_STATUS.asPhrase(Component.text(playerCount)));
         }
+        pregenerateNextCard();
 
         BingoReloaded.scheduleTask((t) -> {
             if (gameStarted) {
@@ -323,6 +356,7 @@ public class PregameLobby implements GamePhase
     @Override
     public void handleSettingsUpdated(final BingoSettingsUpdatedEvent event) {
         settingsHUD.updateSettings(event.getNewSettings(), config);
+        pregenerateNextCard();
     }
 
     @Override
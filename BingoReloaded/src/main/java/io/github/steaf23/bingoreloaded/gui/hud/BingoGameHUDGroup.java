@@ -4,6 +4,7 @@ import io.github.steaf23.bingoreloaded.data.ScoreboardData;
 import io.github.steaf23.bingoreloaded.gameloop.BingoSession;
 import io.github.steaf23.bingoreloaded.player.BingoParticipant;
 import io.github.steaf23.bingoreloaded.player.team.BingoTeam;
+import io.github.steaf23.bingoreloaded.player.team.BingoTeamContainer;
 import io.github.steaf23.bingoreloaded.player.team.SoloTeamManager;
 import io.github.steaf23.bingoreloaded.player.team.TeamManager;
 import io.github.steaf23.bingoreloaded.settings.BingoSettings;
@@ -17,7 +18,6 @@ import net.kyori.adventure.text.format.TextDecoration;
 import org.bukkit.entity.Player;
 
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -62,36 +62,36 @@ public class BingoGameHUDGroup extends PlayerHUDGroup
         if (!session.isRunning())
             return;
 
-        for (BingoTeam t : session.teamManager.getActiveTeams()) {
+        TeamManager teamManager = session.teamManager;
+        BingoTeamContainer activeTeams = teamManager.getActiveTeams();
+
+        for (BingoTeam t : activeTeams) {
             if (t.getCard() != null) {
-                teamScores.put(t.getIdentifier(), t.getCard().getCompleteCount(t));
+                teamScores.put(t.getIdentifier(), activeTeams.getScore(t));
             }
         }
 
         List<Component> teamInfo = new ArrayList<>();
 
-        TeamManager teamManager = session.teamManager;
-
         // try to save space on the sidebar
         int spaceLeft = 15 - template.lines().length;
         boolean condensedDisplay = !showPlayerNames
                 || teamManager.getTeamCount() + teamManager.getParticipantCount() > spaceLeft
                 || teamManager instanceof SoloTeamManager;
 
-        teamManager.getActiveTeams().getTeams().stream()
-                .sorted(Comparator.comparingInt(BingoTeam::getCompleteCount).reversed())
-                .forEach(team -> {
-                    Component teamScore = team.getPrefix()
-                            .append(Component.text(": ", NamedTextColor.WHITE)
-                                    .append(Component.text(teamScores.get(team.getIdentifier())).decorate(TextDecoration.BOLD)));
-                    teamInfo.add(teamScore);
-
-                    if (!condensedDisplay) {
-                        for (BingoParticipant player : team.getMembers()) {
-                            teamInfo.add(PLAYER_PREFIX.append(player.getDisplayName()));
-                        }
-                    }
-                });
+        // The ranking is already sorted by score.
+        activeTeams.getRanking().forEach(team -> {
+            Component teamScore = team.getPrefix()
+                    .append(Component.text(": ", NamedTextColor.WHITE)
+                            .append(Component.text(teamScores.get(team.getIdentifier())).decorate(TextDecoration.BOLD)));
+            teamInfo.add(teamScore);
+
+            if (!condensedDisplay) {
+                for (BingoParticipant player : team.getMembers()) {
+                    teamInfo.add(PLAYER_PREFIX.append(player.getDisplayName()));
+                }
+            }
+        });
 
         addSidebarArgument("team_info", teamInfo.toArray(Component[]::new));
         updateVisible();
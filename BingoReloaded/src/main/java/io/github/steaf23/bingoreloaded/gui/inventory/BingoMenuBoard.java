@@ -56,7 +56,6 @@ public class BingoMenuBoard extends MenuBoard
         super.closeAll(player);
     }
 
-    @EventHandler
     public void handlePlayerLeft(final PlayerLeftSessionWorldEvent event) {
         if (activeMenus.containsKey(event.getPlayer().getUniqueId())) {
             closeAll(event.getPlayer());
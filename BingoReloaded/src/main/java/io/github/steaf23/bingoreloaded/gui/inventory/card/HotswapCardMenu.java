@@ -7,4 +7,9 @@ import java.util.List;
 public interface HotswapCardMenu extends CardMenu
 {
     void updateTaskHolders(List<HotswapTaskHolder> taskHolders);
+
+    /**
+     * @return true if any player is looking at this menu right now.
+     */
+    boolean hasViewers();
 }
@@ -24,6 +24,11 @@ public class HotswapGenericCardMenu extends GenericCardMenu implements HotswapCa
         super.updateTasks(taskHolders.stream().map(h -> h.task).toList());
     }
 
+    @Override
+    public boolean hasViewers() {
+        return !getInventory().getViewers().isEmpty();
+    }
+
     public void updateTaskHolders(List<HotswapTaskHolder> holders) {
         this.taskHolders = holders;
         updateTasks(null);
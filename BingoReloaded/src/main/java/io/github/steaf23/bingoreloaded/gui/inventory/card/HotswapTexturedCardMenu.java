@@ -64,6 +64,11 @@ public class HotswapTexturedCardMenu extends TexturedCardMenu implements Hotswap
         return new HotswapTexturedCardMenu(getMenuBoard(), size);
     }
 
+    @Override
+    public boolean hasViewers() {
+        return !getInventory().getViewers().isEmpty();
+    }
+
     @Override
     public void updateTaskHolders(List<HotswapTaskHolder> taskHolders) {
         this.taskHolders = taskHolders;
@@ -8,7 +8,14 @@ public class BingoPlaceholderFormatter
     private static final YmlDataManager data = BingoReloaded.createYmlDataManager("placeholders.yml");
 
     public String format(BingoReloadedPlaceholder placeholder) {
-        return data.getConfig().getString("placeholders." + placeholder.getName() + ".format", "");
+        return format(placeholder.getName());
+    }
+
+    /**
+     * @param placeholderName name of the format in placeholders.yml, for placeholders that are not a BingoReloadedPlaceholder (e.g. leaderboards).
+     */
+    public String format(String placeholderName) {
+        return data.getConfig().getString("placeholders." + placeholderName + ".format", "");
     }
 
     /**
@@ -11,6 +11,8 @@ public enum BingoReloadedPlaceholder {
     TEAM_NAME("team_name"),
     CURRENT_TASKS_TEAM("current_tasks_team"),
     CURRENT_TASKS_PLAYER("current_tasks_player"),
+    CURRENT_RANK_TEAM("current_rank_team"),
+    CURRENT_LEADING_TEAM("current_leading_team"),
     CURRENT_TIME("current_time"),
     GAME_STATUS("game_status"),
     // current settings information
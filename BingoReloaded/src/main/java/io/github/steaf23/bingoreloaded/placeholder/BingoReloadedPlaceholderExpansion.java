@@ -2,8 +2,9 @@ package io.github.steaf23.bingoreloaded.placeholder;
 
 import io.github.steaf23.bingoreloaded.BingoReloaded;
 import io.github.steaf23.bingoreloaded.data.BingoMessage;
-import io.github.steaf23.bingoreloaded.data.BingoStatData;
+import io.github.steaf23.bingoreloaded.data.BingoPlayerStats;
 import io.github.steaf23.bingoreloaded.data.BingoStatType;
+import io.github.steaf23.bingoreloaded.data.StatLeaderboard;
 import io.github.steaf23.bingoreloaded.gameloop.BingoSession;
 import io.github.steaf23.bingoreloaded.gameloop.GameManager;
 import io.github.steaf23.bingoreloaded.gameloop.phase.BingoGame;
@@ -55,6 +56,13 @@ public class BingoReloadedPlaceholderExpansion extends PlaceholderExpansion
 
     @Override
     public @Nullable String onRequest(OfflinePlayer player, @NotNull String params) {
+        if (params.startsWith("top_") || params.startsWith("rank_")) {
+            String leaderboardPlaceholder = getLeaderboardPlaceholder(player, params);
+            if (leaderboardPlaceholder != null) {
+                return leaderboardPlaceholder;
+            }
+        }
+
         BingoReloadedPlaceholder placeholder = BingoReloadedPlaceholder.fromString(params);
         if (placeholder == null) {
             ConsoleMessenger.error("unexpected placeholder '" + params + "' not found in bingo reloaded.");
@@ -69,10 +77,11 @@ public class BingoReloadedPlaceholderExpansion extends PlaceholderExpansion
             case TEAM_NAME -> getPlayerTeamPlaceholder(player, true, false);
             case CURRENT_TASKS_TEAM -> {
                 BingoTeam team = getPlayerTeam(player);
-                if (team == null) {
+                BingoSession session = getSession(player);
+                if (team == null || session == null) {
                     yield defaultComponent;
                 }
-                yield Component.text(team.getCompleteCount());
+                yield Component.text(session.teamManager.getActiveTeams().getScore(team));
             }
             case CURRENT_TASKS_PLAYER -> {
                 BingoParticipant participant = getParticipant(player);
@@ -81,6 +90,23 @@ public class BingoReloadedPlaceholderExpansion extends PlaceholderExpansion
                 }
                 yield Component.text(participant.getAmountOfTaskCompleted());
             }
+            case CURRENT_RANK_TEAM -> {
+                BingoTeam team = getPlayerTeam(player);
+                BingoSession session = getSession(player);
+                if (team == null || session == null || !session.isRunning()) {
+                    yield defaultComponent;
+                }
+                int rank = session.teamManager.getActiveTeams().getRank(team);
+                yield rank == 0 ? defaultComponent : Component.text(rank);
+            }
+            case CURRENT_LEADING_TEAM -> {
+                BingoSession session = getSession(player);
+                if (session == null || !session.isRunning()) {
+                    yield defaultComponent;
+                }
+                BingoTeam leadingTeam = session.teamManager.getActiveTeams().getLeadingTeam();
+                yield leadingTeam == null ? defaultComponent : leadingTeam.getColoredName();
+            }
             case CURRENT_TIME -> {
                 BingoSession session = getSession(player);
                 if (session == null) {
@@ -215,8 +241,82 @@ public class BingoReloadedPlaceholderExpansion extends PlaceholderExpansion
     }
 
     private Component getPlayerStatPlaceholder(OfflinePlayer player, BingoStatType statType) {
-        BingoStatData statData = new BingoStatData();
-        return Component.text(statData.getPlayerStat(player.getUniqueId(), statType));
+        // Placeholders are requested all the time, so don't wait for the storage and show nothing until the statistics have been read.
+        BingoPlayerStats playerStats = plugin.getStatData().getLoadedPlayerStats(player.getUniqueId());
+        return playerStats == null ? Component.text("-") : Component.text(playerStats.get(statType));
+    }
+
+    /**
+     * Leaderboard placeholders, where stat is one of wins, losses, games, tasks, record or wand_uses:
+     * top_[stat]_[rank]_name, top_[stat]_[rank]_value and rank_[stat] (rank of this player).
+     *
+     * @return the formatted placeholder, or null if params is not a leaderboard placeholder.
+     */
+    private @Nullable String getLeaderboardPlaceholder(OfflinePlayer player, String params) {
+        Component defaultComponent = Component.text("-");
+        StatLeaderboard leaderboard = plugin.getStatData().getLeaderboard();
+
+        if (params.startsWith("rank_")) {
+            BingoStatType statType = statTypeFromName(params.substring("rank_".length()));
+            if (statType == null) {
+                return null;
+            }
+            BingoPlayerStats playerStats = plugin.getStatData().getLoadedPlayerStats(player.getUniqueId());
+            if (playerStats == null) {
+                return formatLeaderboardPlaceholder("rank", defaultComponent);
+            }
+            return formatLeaderboardPlaceholder("rank", Component.text(leaderboard.getRank(statType, playerStats.get(statType))));
+        }
+
+        String part;
+        if (params.endsWith("_name")) {
+            part = "name";
+        } else if (params.endsWith("_value")) {
+            part = "value";
+        } else {
+            return null;
+        }
+        String statAndRank = params.substring("top_".length(), params.length() - part.length() - 1);
+        int rankSeparator = statAndRank.lastIndexOf('_');
+        if (rankSeparator == -1) {
+            return null;
+        }
+        BingoStatType statType = statTypeFromName(statAndRank.substring(0, rankSeparator));
+        int rank;
+        try {
+            rank = Integer.parseInt(statAndRank.substring(rankSeparator + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        if (statType == null) {
+            return null;
+        }
+
+        StatLeaderboard.Entry entry = leaderboard.getEntry(statType, rank);
+        Component result = defaultComponent;
+        if (entry != null && part.equals("name")) {
+            String playerName = Bukkit.getOfflinePlayer(entry.playerId()).getName();
+            result = playerName == null ? defaultComponent : Component.text(playerName);
+        } else if (entry != null) {
+            result = Component.text(entry.value());
+        }
+        return formatLeaderboardPlaceholder("top_" + part, result);
+    }
+
+    private String formatLeaderboardPlaceholder(String formatName, Component value) {
+        return LegacyComponentSerializer.legacySection().serialize(BingoMessage.createPhrase(formatter.format(formatName), value)) + "§r";
+    }
+
+    private static @Nullable BingoStatType statTypeFromName(String name) {
+        return switch (name) {
+            case "wins" -> BingoStatType.WINS;
+            case "losses" -> BingoStatType.LOSSES;
+            case "games" -> BingoStatType.PLAYED;
+            case "tasks" -> BingoStatType.TASKS;
+            case "record" -> BingoStatType.RECORD_TASKS;
+            case "wand_uses" -> BingoStatType.WAND_USES;
+            default -> null;
+        };
     }
 
     private Component placeholderFromTeam(@NotNull BingoTeam team, boolean getName, boolean getColor) {
@@ -135,7 +135,7 @@ public class BingoPlayer implements BingoParticipant
 
         Player player = sessionPlayer().get();
 
-        BingoReloaded.scheduleTask(task -> {
+        BingoReloaded.getScheduler().runAtEntity(player, task -> {
             for (ItemStack itemStack : player.getInventory())
             {
                 if (PlayerKit.CARD_ITEM.isCompareKeyEqual(itemStack))
@@ -152,7 +152,7 @@ public class BingoPlayer implements BingoParticipant
                     player.getWorld().dropItem(player.getLocation(), stack);
                 }
             }
-        });
+        }, 0);
     }
 
     @Override
@@ -164,7 +164,7 @@ public class BingoPlayer implements BingoParticipant
         takeEffects(false);
         Player player = sessionPlayer().get();
 
-        BingoReloaded.scheduleTask(task -> {
+        BingoReloaded.getScheduler().runAtEntity(player, task -> {
             if (effects.contains(EffectOptionFlags.NIGHT_VISION))
                 player.addPotionEffect(new PotionEffect(PotionEffectType.NIGHT_VISION, POTION_DURATION, 1, false, false));
             if (effects.contains(EffectOptionFlags.WATER_BREATHING))
@@ -176,7 +176,7 @@ public class BingoPlayer implements BingoParticipant
             player.addPotionEffect(new PotionEffect(PotionEffectType.SATURATION, 2, 100, false, false));
             player.addPotionEffect(new PotionEffect(PotionEffectType.REGENERATION, 2, 100, false, false));
             player.addPotionEffect(new PotionEffect(PotionEffectType.RESISTANCE, BingoReloaded.ONE_SECOND * gracePeriod, 100, false, false));
-        });
+        }, 0);
     }
 
     /**
@@ -260,7 +260,7 @@ public class BingoPlayer implements BingoParticipant
             return;
         }
 
-        BingoReloaded.scheduleTask(task -> {
+        BingoReloaded.getScheduler().runAtEntity(player, task -> {
             itemCooldowns.addCooldown(wand.getType(), (int)(wandCooldownSeconds * 1000));
 
             double distance;
@@ -284,7 +284,7 @@ public class BingoPlayer implements BingoParticipant
 
             BingoGame.spawnPlatform(newLocation, 1, true);
 
-            BingoReloaded.scheduleTask(laterTask -> {
+            BingoReloaded.getScheduler().runAtLocation(newLocation, laterTask -> {
                 BingoGame.removePlatform(newLocation, 1);
             }, (long) Math.max(0, platformLifetimeSeconds) * BingoReloaded.ONE_SECOND);
 
@@ -292,7 +292,7 @@ public class BingoPlayer implements BingoParticipant
             player.addPotionEffect(new PotionEffect(PotionEffectType.RESISTANCE, BingoReloaded.ONE_SECOND * 10, 100, false, false));
 
             BingoReloaded.incrementPlayerStat(player, BingoStatType.WAND_USES);
-        });
+        }, 0);
     }
 
     @Override
@@ -1,10 +1,8 @@
 package io.github.steaf23.bingoreloaded.player;
 
 import io.github.steaf23.bingoreloaded.BingoReloaded;
-import org.bukkit.Bukkit;
+import io.github.steaf23.bingoreloaded.util.scheduler.SchedulerTask;
 import org.bukkit.Location;
-import org.bukkit.plugin.Plugin;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -14,12 +12,12 @@ import java.util.UUID;
 public class PlayerRespawnManager
 {
     private final Map<UUID, DeadPlayer> deadPlayers;
-    private final BukkitTask task;
+    private final SchedulerTask task;
 
-    public PlayerRespawnManager(Plugin plugin, int respawnPeriodSeconds) {
+    public PlayerRespawnManager(int respawnPeriodSeconds) {
         this.deadPlayers = new HashMap<>();
         //TODO: Maybe only have the task running if there are dead players?
-        this.task = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
+        this.task = BingoReloaded.getScheduler().runGlobalTimer(() -> {
             for (var p : deadPlayers.keySet()) {
                 DeadPlayer player = deadPlayers.get(p);
                 if (System.currentTimeMillis() > player.deathTime + respawnPeriodSeconds * 1000L) {
@@ -1,5 +1,6 @@
 package io.github.steaf23.bingoreloaded.player.team;
 
+import io.github.steaf23.bingoreloaded.BingoReloaded;
 import io.github.steaf23.bingoreloaded.data.BingoMessage;
 import io.github.steaf23.bingoreloaded.data.TeamData;
 import io.github.steaf23.bingoreloaded.event.BingoSettingsUpdatedEvent;
@@ -15,15 +16,16 @@ import io.github.steaf23.playerdisplay.util.ConsoleMessenger;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.TextColor;
-import org.bukkit.Bukkit;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
 
 /**
  * (This team manager is basic in terms of features, not in terms of complexity)
@@ -36,11 +38,14 @@ public class BasicTeamManager implements TeamManager
     private int maxTeamSize;
     private final Map<String, TeamData.TeamTemplate> joinableTeams;
     private final BingoTeam autoTeam;
+    // Members of all active teams, kept up to date with every change in membership so participants can be looked up without going through each team.
+    private final Map<UUID, BingoParticipant> participants;
 
     public BasicTeamManager(BingoSession session) {
         this.session = session;
         this.teamData = new TeamData();
         this.activeTeams = new BingoTeamContainer();
+        this.participants = new HashMap<>();
         this.maxTeamSize = session.settingsBuilder.view().maxTeamSize();
         this.joinableTeams = teamData.getTeams();
         ConsoleMessenger.log("Loaded " + joinableTeams.size() + " team(s)");
@@ -114,7 +119,7 @@ public class BasicTeamManager implements TeamManager
         Set<BingoParticipant> autoPlayersCopy = new HashSet<>(automaticTeamPlayers);
         // Since we need to remove players from this list as we are iterating, use a direct reference to the iterator.
         for (BingoParticipant participant : autoPlayersCopy) {
-            automaticTeam.removeMember(participant);
+            removeFromTeam(automaticTeam, participant);
 
             TeamCount lowest = !counts.isEmpty() ? counts.getFirst() : null;
             // If our lowest count is the same as the highest count, all incomplete teams have been filled
@@ -171,8 +176,8 @@ public class BasicTeamManager implements TeamManager
         if (player == null) return false;
 
         BingoTeam team = player.getTeam();
-        if (getParticipants().contains(player)) {
-            team.removeMember(player);
+        if (participants.get(player.getId()) == player) {
+            removeFromTeam(team, player);
         } else {
             return false;
         }
@@ -181,7 +186,7 @@ public class BasicTeamManager implements TeamManager
         }
 
         var leaveEvent = new ParticipantLeftTeamEvent(player, team, session);
-        Bukkit.getPluginManager().callEvent(leaveEvent);
+        BingoReloaded.callBingoEvent(leaveEvent);
         return true;
     }
 
@@ -227,12 +232,12 @@ public class BasicTeamManager implements TeamManager
             return false;
         }
 
-        bingoTeam.addMember(participant);
+        addToTeam(bingoTeam, participant);
 
         activeTeams.removeEmptyTeams("auto");
 
         var joinEvent = new ParticipantJoinedTeamEvent(participant, bingoTeam, session);
-        Bukkit.getPluginManager().callEvent(joinEvent);
+        BingoReloaded.callBingoEvent(joinEvent);
 
         if (teamId.equals("auto")) {
             BingoMessage.JOIN_AUTO.sendToAudience(participant, NamedTextColor.GREEN);
@@ -283,21 +288,46 @@ public class BasicTeamManager implements TeamManager
         return null;
     }
 
+    private void addToTeam(BingoTeam team, BingoParticipant participant) {
+        team.addMember(participant);
+        if (activeTeams.contains(team)) {
+            participants.put(participant.getId(), participant);
+        }
+    }
+
+    private void removeFromTeam(BingoTeam team, BingoParticipant participant) {
+        team.removeMember(participant);
+        participants.remove(participant.getId(), participant);
+    }
+
     @Override
     public int getParticipantCount() {
-        return activeTeams.getAllParticipants().size();
+        return participants.size();
+    }
+
+    @Override
+    public Set<BingoParticipant> getParticipants() {
+        return new HashSet<>(participants.values());
+    }
+
+    @Override
+    public @Nullable BingoParticipant getParticipant(UUID id) {
+        return participants.get(id);
     }
 
     @Override
     public void setup() {
         addAutoPlayersToTeams();
         activeTeams.removeTeam(autoTeam);
+        // Players left in the auto team (if they could not fit in any team) are no longer participating.
+        autoTeam.getMembers().forEach(member -> participants.remove(member.getId(), member));
         activeTeams.removeEmptyTeams("auto");
     }
 
     @Override
     public void reset() {
         activeTeams.addTeam(autoTeam);
+        autoTeam.getMembers().forEach(member -> participants.put(member.getId(), member));
     }
 
     //== EventHandlers ==========================================
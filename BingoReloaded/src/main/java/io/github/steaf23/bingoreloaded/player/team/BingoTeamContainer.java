@@ -2,11 +2,18 @@ package io.github.steaf23.bingoreloaded.player.team;
 
 import io.github.steaf23.bingoreloaded.player.BingoParticipant;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -16,8 +23,26 @@ public class BingoTeamContainer implements Iterable<BingoTeam>
 {
     private final Set<BingoTeam> teams;
 
+    // Leaderboard: complete count of each team, and all teams sorted by that count (highest first).
+    // Scores are only updated through updateScore, so they can be read without going over the cards.
+    private final Map<BingoTeam, Integer> scores;
+    private final Comparator<BingoTeam> order;
+    private final List<BingoTeam> ranking;
+    // Index of each team in ranking, kept up to date together with ranking so the rank of a team can be read directly.
+    private final Map<BingoTeam, Integer> rankIndex;
+    private int totalScore;
+    private @Nullable BingoTeam leadingTeam;
+    private @Nullable BingoTeam losingTeam;
+
     BingoTeamContainer() {
         teams = new HashSet<>();
+        scores = new HashMap<>();
+        order = Comparator.<BingoTeam>comparingInt(t -> -scores.getOrDefault(t, 0))
+                .thenComparing(BingoTeam::getIdentifier)
+                .thenComparingInt(System::identityHashCode);
+        ranking = new ArrayList<>();
+        rankIndex = new HashMap<>();
+        totalScore = 0;
     }
 
     public int teamCount() {
@@ -25,34 +50,121 @@ public class BingoTeamContainer implements Iterable<BingoTeam>
     }
 
     public void addTeam(BingoTeam team) {
-        teams.add(team);
+        if (teams.add(team)) {
+            scores.put(team, 0);
+            ranking.add(team);
+            rankIndex.put(team, ranking.size() - 1);
+            updateScore(team);
+        }
     }
 
     public void removeTeam(BingoTeam team) {
-        teams.remove(team);
+        if (teams.remove(team)) {
+            forgetScore(team);
+        }
+    }
+
+    /**
+     * Read the complete count of the team from its card again and move it to its new place in the ranking.
+     * Has to be called whenever the complete count of a team changes.
+     * Only the teams that it moves past have to be updated, which is usually a few teams since scores change by 1 at a time.
+     */
+    public void updateScore(BingoTeam team) {
+        if (!teams.contains(team)) {
+            return;
+        }
+
+        int score = team.getCard() == null ? 0 : team.getCompleteCount();
+        totalScore += score - scores.getOrDefault(team, 0);
+        scores.put(team, score);
+        moveToRank(team);
+        updateLeaders();
+    }
+
+    /**
+     * Update the scores of all teams, for example after they all got a new card.
+     */
+    public void updateAllScores() {
+        for (BingoTeam team : teams) {
+            updateScore(team);
+        }
+    }
+
+    private void forgetScore(BingoTeam team) {
+        Integer index = rankIndex.remove(team);
+        if (index != null) {
+            ranking.remove((int) index);
+            for (int i = index; i < ranking.size(); i++) {
+                rankIndex.put(ranking.get(i), i);
+            }
+        }
+        totalScore -= scores.getOrDefault(team, 0);
+        scores.remove(team);
+        updateLeaders();
+    }
+
+    /**
+     * Swap the team with its neighbours in the ranking until it is in order again, after its score changed.
+     */
+    private void moveToRank(BingoTeam team) {
+        int index = rankIndex.get(team);
+        while (index > 0 && order.compare(team, ranking.get(index - 1)) < 0) {
+            swapRanks(index, index - 1);
+            index--;
+        }
+        while (index < ranking.size() - 1 && order.compare(team, ranking.get(index + 1)) > 0) {
+            swapRanks(index, index + 1);
+            index++;
+        }
+    }
+
+    private void swapRanks(int first, int second) {
+        BingoTeam firstTeam = ranking.get(first);
+        BingoTeam secondTeam = ranking.get(second);
+        ranking.set(first, secondTeam);
+        ranking.set(second, firstTeam);
+        rankIndex.put(secondTeam, first);
+        rankIndex.put(firstTeam, second);
     }
 
-    public BingoTeam getLeadingTeam() {
-        Optional<BingoTeam> leadingTeam = teams.stream().max(
-                Comparator.comparingInt(BingoTeam::getCompleteCount)
-        );
-        return leadingTeam.orElse(null);
+    private void updateLeaders() {
+        leadingTeam = ranking.isEmpty() ? null : ranking.getFirst();
+        losingTeam = ranking.isEmpty() ? null : ranking.getLast();
     }
 
-    public BingoTeam getLosingTeam() {
-        Optional<BingoTeam> losingTeam = teams.stream().min(
-                Comparator.comparingInt(BingoTeam::getCompleteCount)
-        );
-        return losingTeam.orElse(null);
+    public @Nullable BingoTeam getLeadingTeam() {
+        return leadingTeam;
+    }
+
+    public @Nullable BingoTeam getLosingTeam() {
+        return losingTeam;
+    }
+
+    /**
+     * @return the complete count of the team as it was last updated, or 0 if the team is not in this container.
+     */
+    public int getScore(BingoTeam team) {
+        return scores.getOrDefault(team, 0);
+    }
+
+    /**
+     * @return 1 for the team with the most completed tasks, 2 for the next team, etc. 0 if the team is not in this container.
+     */
+    public int getRank(BingoTeam team) {
+        Integer index = rankIndex.get(team);
+        return index == null ? 0 : index + 1;
+    }
+
+    /**
+     * @return all teams sorted by their complete count, highest first.
+     */
+    public Collection<BingoTeam> getRanking() {
+        return Collections.unmodifiableList(ranking);
     }
 
     public int getTotalCompleteCount()
     {
-        int count = 0;
-        for (BingoTeam team : this) {
-            count += team.getCompleteCount();
-        }
-        return count;
+        return totalScore;
     }
 
     public Set<BingoParticipant> getAllParticipants() {
@@ -76,7 +188,13 @@ public class BingoTeamContainer implements Iterable<BingoTeam>
     }
 
     public void removeEmptyTeams(String... exceptions) {
-        teams.removeIf(team -> team.getMembers().isEmpty() && Arrays.stream(exceptions).noneMatch(Predicate.isEqual(team.getIdentifier())));
+        teams.removeIf(team -> {
+            if (team.getMembers().isEmpty() && Arrays.stream(exceptions).noneMatch(Predicate.isEqual(team.getIdentifier()))) {
+                forgetScore(team);
+                return true;
+            }
+            return false;
+        });
     }
 
     public Set<BingoTeam> getTeams()
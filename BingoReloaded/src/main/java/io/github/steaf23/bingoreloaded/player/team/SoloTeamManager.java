@@ -1,5 +1,6 @@
 package io.github.steaf23.bingoreloaded.player.team;
 
+import io.github.steaf23.bingoreloaded.BingoReloaded;
 import io.github.steaf23.bingoreloaded.data.BingoMessage;
 import io.github.steaf23.bingoreloaded.data.TeamData;
 import io.github.steaf23.bingoreloaded.event.ParticipantJoinedTeamEvent;
@@ -15,12 +16,14 @@ import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.TextColor;
 import net.kyori.adventure.util.HSVLike;
-import org.bukkit.Bukkit;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 /**
  * Similar to BasicTeamManager but each team can only have 1 member, the team's name being the name of the member.
@@ -30,10 +33,13 @@ public class SoloTeamManager implements TeamManager
     private final BingoTeamContainer teams;
     private final BingoSession session;
     private final BingoTeam autoTeam;
+    // Members of all active teams, kept up to date with every change in membership so participants can be looked up without going through each team.
+    private final Map<UUID, BingoParticipant> participants;
 
     public SoloTeamManager(BingoSession session) {
         this.session = session;
         this.teams = new BingoTeamContainer();
+        this.participants = new HashMap<>();
 
         TextColor autoTeamColor = TextColor.fromHexString("#fdffa8");
         if (autoTeamColor == null) {
@@ -76,6 +82,7 @@ public class SoloTeamManager implements TeamManager
         teams.removeTeam(autoTeam);
         for (BingoParticipant participant : new HashSet<>(autoTeam.getMembers())) {
             autoTeam.removeMember(participant);
+            participants.remove(participant.getId(), participant);
             setupParticipant(participant);
         }
     }
@@ -89,6 +96,22 @@ public class SoloTeamManager implements TeamManager
             teams.removeTeam(team);
         }
         teams.addTeam(autoTeam);
+        autoTeam.getMembers().forEach(member -> participants.put(member.getId(), member));
+    }
+
+    @Override
+    public int getParticipantCount() {
+        return participants.size();
+    }
+
+    @Override
+    public Set<BingoParticipant> getParticipants() {
+        return new HashSet<>(participants.values());
+    }
+
+    @Override
+    public @Nullable BingoParticipant getParticipant(UUID id) {
+        return participants.get(id);
     }
 
     public void setupParticipant(BingoParticipant participant) {
@@ -97,11 +120,12 @@ public class SoloTeamManager implements TeamManager
         BingoTeam team = new BingoTeam(participant.getId().toString(), teamColor, participant.getDisplayName(), createPrefix(teamColor));
         team.addMember(participant);
         teams.addTeam(team);
+        participants.put(participant.getId(), participant);
 
         BingoMessage.JOIN.sendToAudience(participant, NamedTextColor.GREEN, participant.getTeam().getColoredName());
 
         var joinEvent = new ParticipantJoinedTeamEvent(participant, team, session);
-        Bukkit.getPluginManager().callEvent(joinEvent);
+        BingoReloaded.callBingoEvent(joinEvent);
     }
 
     @Override
@@ -124,9 +148,10 @@ public class SoloTeamManager implements TeamManager
             return false;
         }
         autoTeam.addMember(player);
+        participants.put(player.getId(), player);
 
         var joinEvent = new ParticipantJoinedTeamEvent(player, session);
-        Bukkit.getPluginManager().callEvent(joinEvent);
+        BingoReloaded.callBingoEvent(joinEvent);
 
         BingoMessage.JOIN_AUTO.sendToAudience(player, NamedTextColor.GREEN);
         return true;
@@ -140,7 +165,7 @@ public class SoloTeamManager implements TeamManager
 
         removeMemberFromTeamSilently(member);
         var leaveEvent = new ParticipantLeftTeamEvent(member, session);
-        Bukkit.getPluginManager().callEvent(leaveEvent);
+        BingoReloaded.callBingoEvent(leaveEvent);
 
         BingoMessage.LEAVE.sendToAudience(member, NamedTextColor.RED);
         return true;
@@ -189,6 +214,7 @@ public class SoloTeamManager implements TeamManager
         for (BingoTeam team : teams) {
             team.removeMember(member);
         }
+        participants.remove(member.getId(), member);
         teams.removeEmptyTeams("auto");
     }
 }
@@ -11,6 +11,7 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 
 public interface TeamManager
 {
@@ -39,8 +40,16 @@ public interface TeamManager
      */
     @Nullable
     default BingoParticipant getPlayerAsParticipant(@NonNull Player player) {
+        return getParticipant(player.getUniqueId());
+    }
+
+    /**
+     * @return the participant with the given id, or null if no team has a member with this id.
+     */
+    @Nullable
+    default BingoParticipant getParticipant(@NonNull UUID id) {
         for (BingoParticipant participant : getParticipants()) {
-            if (participant.getId().equals(player.getUniqueId())) {
+            if (participant.getId().equals(id)) {
                 return participant;
             }
         }
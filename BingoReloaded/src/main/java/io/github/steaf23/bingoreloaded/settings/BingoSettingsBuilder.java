@@ -1,14 +1,14 @@
 package io.github.steaf23.bingoreloaded.settings;
 
+import io.github.steaf23.bingoreloaded.BingoReloaded;
 import io.github.steaf23.bingoreloaded.cards.CardSize;
-import io.github.steaf23.bingoreloaded.data.BingoCardData;
 import io.github.steaf23.bingoreloaded.data.BingoSettingsData;
+import io.github.steaf23.bingoreloaded.data.TaskCatalog;
 import io.github.steaf23.bingoreloaded.event.BingoSettingsUpdatedEvent;
 import io.github.steaf23.bingoreloaded.gameloop.BingoSession;
 import io.github.steaf23.bingoreloaded.gameloop.phase.PregameLobby;
 import io.github.steaf23.bingoreloaded.gui.inventory.EffectOptionFlags;
 import io.github.steaf23.playerdisplay.util.ConsoleMessenger;
-import org.bukkit.Bukkit;
 
 import java.util.EnumSet;
 import java.util.Objects;
@@ -71,6 +71,10 @@ public class BingoSettingsBuilder
         BingoSettingsBuilder resultBuilder = new BingoSettingsBuilder(session);
         resultBuilder.fromOther(view());
 
+        if (voteResult.gamemode.isEmpty()) {
+            return resultBuilder;
+        }
+
         String[] tuple = voteResult.gamemode.split("_");
         if (tuple.length != 2) {
             ConsoleMessenger.bug("Could not read vote results", this);
@@ -95,7 +99,7 @@ public class BingoSettingsBuilder
         if (!voteResult.kit.isEmpty())
             resultBuilder.kit = PlayerKit.fromConfig(voteResult.kit);
 
-        if (!voteResult.kit.isEmpty() && new BingoCardData().getCardNames().contains(voteResult.card))
+        if (!voteResult.kit.isEmpty() && TaskCatalog.get().hasCard(voteResult.card))
             resultBuilder.card = voteResult.card;
 
         return resultBuilder;
@@ -228,6 +232,6 @@ public class BingoSettingsBuilder
     public void settingsUpdated()
     {
         var event = new BingoSettingsUpdatedEvent(view(), session);
-        Bukkit.getPluginManager().callEvent(event);
+        BingoReloaded.callBingoEvent(event);
     }
 }
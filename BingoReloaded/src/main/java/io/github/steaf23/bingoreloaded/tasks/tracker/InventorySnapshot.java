@@ -0,0 +1,142 @@
+package io.github.steaf23.bingoreloaded.tasks.tracker;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Material histogram of a player's inventory, indexed by Material ordinal.
+ * Amounts are summed over all stacks of the same material, so a task like 32x dirt can be completed using multiple stacks.
+ * Every update recounts the inventory and remembers which materials changed since the previous update,
+ * such that only the tasks for those materials have to be checked.
+ */
+public class InventorySnapshot
+{
+    private static final Material[] MATERIALS = Material.values();
+    // 41 inventory slots + the cursor
+    private static final int MAX_STACKS = 42;
+    // Materials set directly can be stale, so leave some room for those next to the materials counted in the last update.
+    private static final int MAX_PRESENT_MATERIALS = MAX_STACKS * 2;
+
+    private final int[] counts;
+    private final int[] newCounts;
+
+    // Ordinals of every material with a non-zero count, in counts and newCounts respectively.
+    private int[] presentMaterials;
+    private int presentCount;
+    private int[] newPresentMaterials;
+    private int newPresentCount;
+
+    private final int[] changedMaterials;
+    private int changedCount;
+
+    public InventorySnapshot() {
+        this.counts = new int[MATERIALS.length];
+        this.newCounts = new int[MATERIALS.length];
+        this.presentMaterials = new int[MAX_PRESENT_MATERIALS];
+        this.newPresentMaterials = new int[MAX_PRESENT_MATERIALS];
+        this.changedMaterials = new int[MAX_STACKS + MAX_PRESENT_MATERIALS];
+    }
+
+    /**
+     * Recount the given stacks and keep track of all materials whose total amount changed since the last update.
+     * @param contents inventory contents, null entries are ignored.
+     * @param cursor item on the cursor of the player, or null.
+     */
+    public void update(@NotNull ItemStack[] contents, @Nullable ItemStack cursor) {
+        newPresentCount = 0;
+        for (ItemStack stack : contents) {
+            count(stack);
+        }
+        count(cursor);
+
+        changedCount = 0;
+        for (int i = 0; i < newPresentCount; i++) {
+            int ordinal = newPresentMaterials[i];
+            if (newCounts[ordinal] != counts[ordinal]) {
+                changedMaterials[changedCount++] = ordinal;
+            }
+        }
+        for (int i = 0; i < presentCount; i++) {
+            int ordinal = presentMaterials[i];
+            if (newCounts[ordinal] == 0 && counts[ordinal] != 0) {
+                changedMaterials[changedCount++] = ordinal;
+            }
+        }
+
+        // Move the new counts over into the snapshot and clear the scratch array for the next update.
+        for (int i = 0; i < presentCount; i++) {
+            counts[presentMaterials[i]] = 0;
+        }
+        for (int i = 0; i < newPresentCount; i++) {
+            int ordinal = newPresentMaterials[i];
+            counts[ordinal] = newCounts[ordinal];
+            newCounts[ordinal] = 0;
+        }
+
+        int[] previous = presentMaterials;
+        presentMaterials = newPresentMaterials;
+        presentCount = newPresentCount;
+        newPresentMaterials = previous;
+    }
+
+    private void count(@Nullable ItemStack stack) {
+        if (stack == null || stack.getType().isAir() || newPresentCount >= MAX_STACKS) {
+            return;
+        }
+
+        int ordinal = stack.getType().ordinal();
+        if (newCounts[ordinal] == 0) {
+            newPresentMaterials[newPresentCount++] = ordinal;
+        }
+        newCounts[ordinal] += stack.getAmount();
+    }
+
+    /**
+     * @return amount of materials that changed during the last update.
+     */
+    public int getChangedCount() {
+        return changedCount;
+    }
+
+    public Material getChanged(int index) {
+        return MATERIALS[changedMaterials[index]];
+    }
+
+    public int getCount(@NotNull Material material) {
+        return counts[material.ordinal()];
+    }
+
+    /**
+     * Set the count of a single material, used when only that material is known to have changed since the last update.
+     */
+    public void set(@NotNull Material material, int amount) {
+        int ordinal = material.ordinal();
+        if (amount > 0 && !isPresent(ordinal)) {
+            if (presentCount >= MAX_PRESENT_MATERIALS) {
+                // The snapshot is too far out of date, the next update will recount everything anyway.
+                return;
+            }
+            presentMaterials[presentCount++] = ordinal;
+        }
+        counts[ordinal] = amount;
+    }
+
+    private boolean isPresent(int ordinal) {
+        for (int i = 0; i < presentCount; i++) {
+            if (presentMaterials[i] == ordinal) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Lower the count of the given material, used when items get taken from the inventory without a new update.
+     */
+    public void remove(@NotNull Material material, int amount) {
+        int ordinal = material.ordinal();
+        counts[ordinal] = Math.max(0, counts[ordinal] - amount);
+    }
+}
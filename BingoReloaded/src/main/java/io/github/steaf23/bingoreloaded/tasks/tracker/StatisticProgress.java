@@ -1,9 +1,9 @@
 package io.github.steaf23.bingoreloaded.tasks.tracker;
 
+import io.github.steaf23.bingoreloaded.BingoReloaded;
 import io.github.steaf23.bingoreloaded.event.BingoStatisticCompletedEvent;
 import io.github.steaf23.bingoreloaded.player.BingoParticipant;
 import io.github.steaf23.bingoreloaded.tasks.BingoStatistic;
-import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 
 public class StatisticProgress
@@ -56,7 +56,7 @@ public class StatisticProgress
 
         if (done()) {
             var event = new BingoStatisticCompletedEvent(statistic, player);
-            Bukkit.getPluginManager().callEvent(event);
+            BingoReloaded.callBingoEvent(event);
         }
     }
 
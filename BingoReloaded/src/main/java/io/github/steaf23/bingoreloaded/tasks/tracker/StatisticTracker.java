@@ -1,59 +1,203 @@
 package io.github.steaf23.bingoreloaded.tasks.tracker;
 
+import io.github.steaf23.bingoreloaded.BingoReloaded;
 import io.github.steaf23.bingoreloaded.gameloop.phase.BingoGame;
 import io.github.steaf23.bingoreloaded.player.BingoParticipant;
 import io.github.steaf23.bingoreloaded.player.BingoPlayer;
-import io.github.steaf23.bingoreloaded.player.team.BingoTeam;
 import io.github.steaf23.bingoreloaded.tasks.BingoStatistic;
 import io.github.steaf23.bingoreloaded.tasks.StatisticTask;
+import io.github.steaf23.bingoreloaded.util.scheduler.SchedulerTask;
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.Statistic;
+import org.bukkit.entity.EntityType;
 import org.bukkit.entity.Player;
 import org.bukkit.event.player.PlayerStatisticIncrementEvent;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 public class StatisticTracker
 {
+    // Shared between all games, so increments can be filtered before looking up any session.
+    private static final TrackedStatistics TRACKED_STATISTICS = new TrackedStatistics();
+
     private final List<StatisticProgress> statistics;
+    private final Map<UUID, Map<BingoStatistic, StatisticProgress>> progressPerParticipant;
+
+    // Statistics that are not updated by increment events are polled once per second.
+    // To spread the work, participants are divided over one bucket per tick, and each tick only one bucket gets polled.
+    private final List<List<UUID>> pollBuckets;
+    private final Map<UUID, Integer> pollBucketOfParticipant;
+    // Participants that moved or joined since their last poll, others can't have made progress on travel statistics.
+    private final Set<UUID> dirtyParticipants;
+    private final List<StatisticProgress> pollScratch;
+    private int nextBucketToPoll;
+    private int nextBucketToAssign;
+    private @Nullable SchedulerTask pollTask;
 
     public StatisticTracker()
     {
         this.statistics = new ArrayList<>();
+        this.progressPerParticipant = new HashMap<>();
+        this.pollBuckets = new ArrayList<>();
+        for (int i = 0; i < BingoReloaded.ONE_SECOND; i++)
+        {
+            pollBuckets.add(new ArrayList<>());
+        }
+        this.pollBucketOfParticipant = new HashMap<>();
+        this.dirtyParticipants = new HashSet<>();
+        this.pollScratch = new ArrayList<>();
+        this.nextBucketToPoll = 0;
+        this.nextBucketToAssign = 0;
+        this.pollTask = null;
     }
 
-    public double getProgressLeft(BingoPlayer player, BingoStatistic statistic)
+    /**
+     * @return true if any running game is tracking the statistic from this event.
+     * Does not allocate anything, since it has to be checked for every statistic increment on the server.
+     */
+    public static boolean isStatisticTracked(Statistic statistic, @Nullable EntityType entityType, @Nullable Material materialType)
     {
-        List<StatisticProgress> statProgress = statistics.stream().filter(progress ->
-                progress.getParticipant().equals(player) && progress.getStatistic().equals(statistic)).toList();
+        return TRACKED_STATISTICS.isTracked(statistic, entityType, materialType);
+    }
 
-        if (statProgress.size() != 1)
+    public double getProgressLeft(BingoPlayer player, BingoStatistic statistic)
+    {
+        StatisticProgress progress = getProgress(player, statistic);
+        if (progress == null)
             return Double.MAX_VALUE;
 
-        return statProgress.getFirst().getProgressLeft();
+        return progress.getProgressLeft();
     }
 
     public void addStatistic(StatisticTask statTask, BingoParticipant participant) {
-        if (statistics.stream().anyMatch(progress ->
-                progress.getParticipant().equals(participant) && progress.getStatistic().equals(statTask.statistic())))
+        if (getProgress(participant, statTask.statistic()) != null)
             return;
 
         setPlayerStatistic(statTask.statistic(), participant, 0);
-        statistics.add(new StatisticProgress(statTask.statistic(), participant, statTask.count()));
+        StatisticProgress progress = new StatisticProgress(statTask.statistic(), participant, statTask.count());
+        statistics.add(progress);
+        progressPerParticipant.computeIfAbsent(participant.getId(), id -> new HashMap<>()).put(progress.getStatistic(), progress);
+        TRACKED_STATISTICS.add(progress.getStatistic());
+
+        if (!progress.getStatistic().getsUpdatedWithIncrementEvent())
+        {
+            startPolling(participant.getId());
+        }
     }
 
     public void removeStatistic(StatisticTask task) {
-        statistics.removeIf(progress -> progress.getStatistic().equals(task.statistic()));
+        statistics.removeIf(progress -> {
+            if (!progress.getStatistic().equals(task.statistic()))
+                return false;
+
+            removeFromIndex(progress);
+            return true;
+        });
+    }
+
+    /**
+     * Mark participant as having moved (or (re)joined), so their travel statistics will be checked during their next poll.
+     */
+    public void markParticipantDirty(UUID participantId)
+    {
+        if (pollBucketOfParticipant.containsKey(participantId))
+        {
+            dirtyParticipants.add(participantId);
+        }
+    }
+
+    private void startPolling(UUID participantId)
+    {
+        if (!pollBucketOfParticipant.containsKey(participantId))
+        {
+            int bucket = nextBucketToAssign;
+            nextBucketToAssign = (nextBucketToAssign + 1) % pollBuckets.size();
+            pollBuckets.get(bucket).add(participantId);
+            pollBucketOfParticipant.put(participantId, bucket);
+            dirtyParticipants.add(participantId);
+        }
+
+        if (pollTask == null)
+        {
+            pollTask = BingoReloaded.getScheduler().runGlobalTimer(this::pollNextBucket, 1, 1);
+        }
     }
 
-    public void updateProgress()
+    private void pollNextBucket()
     {
-        statistics.forEach(StatisticProgress::updatePeriodicProgress);
-        statistics.removeIf(StatisticProgress::done);
+        List<UUID> bucket = pollBuckets.get(nextBucketToPoll);
+        nextBucketToPoll = (nextBucketToPoll + 1) % pollBuckets.size();
+
+        for (UUID participantId : bucket)
+        {
+            Map<BingoStatistic, StatisticProgress> participantProgress = progressPerParticipant.get(participantId);
+            if (participantProgress == null)
+                continue;
+
+            boolean moved = dirtyParticipants.remove(participantId);
+            // Copy the statistics to poll, since completing one can remove entries from the tracker.
+            pollScratch.clear();
+            for (StatisticProgress progress : participantProgress.values())
+            {
+                BingoStatistic statistic = progress.getStatistic();
+                if (statistic.getsUpdatedWithIncrementEvent())
+                    continue;
+                // Time statistics keep increasing while the player is online, travel statistics only when moving.
+                if (statistic.getCategory() == BingoStatistic.StatisticCategory.TRAVEL && !moved)
+                    continue;
+
+                pollScratch.add(progress);
+            }
+
+            for (StatisticProgress progress : pollScratch)
+            {
+                progress.updatePeriodicProgress();
+                if (progress.done() && removeFromIndex(progress))
+                {
+                    statistics.remove(progress);
+                }
+            }
+        }
+        pollScratch.clear();
+    }
+
+    private void stopPolling()
+    {
+        if (pollTask != null)
+        {
+            pollTask.cancel();
+            pollTask = null;
+        }
+        pollBuckets.forEach(List::clear);
+        pollBucketOfParticipant.clear();
+        dirtyParticipants.clear();
+    }
+
+    /**
+     * @return true if any of the tracked statistics is a travel statistic, which only progress while players move.
+     */
+    public boolean hasTravelStatistics()
+    {
+        for (StatisticProgress progress : statistics)
+        {
+            if (progress.getStatistic().getCategory() == BingoStatistic.StatisticCategory.TRAVEL)
+                return true;
+        }
+        return false;
     }
 
     public void reset()
     {
+        stopPolling();
+        statistics.forEach(this::removeFromIndex);
         statistics.clear();
     }
 
@@ -62,24 +206,43 @@ public class StatisticTracker
         if (game == null)
             return;
 
-        BingoParticipant player = game.getTeamManager().getPlayerAsParticipant(event.getPlayer());
-        if (player == null || player.sessionPlayer().isEmpty())
+        Map<BingoStatistic, StatisticProgress> participantProgress = progressPerParticipant.get(event.getPlayer().getUniqueId());
+        if (participantProgress == null)
             return;
 
-        BingoTeam team = player.getTeam();
-        if (team == null)
+        StatisticProgress progress = participantProgress.get(new BingoStatistic(event.getStatistic(), event.getEntityType(), event.getMaterial()));
+        if (progress == null || progress.getParticipant().getTeam() == null)
             return;
 
-        BingoStatistic stat = new BingoStatistic(event.getStatistic(), event.getEntityType(), event.getMaterial());
-
-        List<StatisticProgress> matchingStatistic = statistics.stream().filter(progress ->
-                progress.getParticipant().equals(player) && progress.getStatistic().equals(stat)).toList();
-        if (matchingStatistic.size() == 1)
+        progress.setProgress(event.getNewValue());
+        // Completing the statistic can already have removed it from the tracker, in which case this does nothing.
+        if (progress.done() && removeFromIndex(progress))
         {
-            matchingStatistic.getFirst().setProgress(event.getNewValue());
+            statistics.remove(progress);
         }
+    }
+
+    private @Nullable StatisticProgress getProgress(BingoParticipant participant, BingoStatistic statistic)
+    {
+        Map<BingoStatistic, StatisticProgress> participantProgress = progressPerParticipant.get(participant.getId());
+        return participantProgress == null ? null : participantProgress.get(statistic);
+    }
+
+    /**
+     * @return true if the progress was still being tracked.
+     */
+    private boolean removeFromIndex(StatisticProgress progress)
+    {
+        Map<BingoStatistic, StatisticProgress> participantProgress = progressPerParticipant.get(progress.getParticipant().getId());
+        if (participantProgress == null || !participantProgress.remove(progress.getStatistic(), progress))
+            return false;
 
-        statistics.removeIf(StatisticProgress::done);
+        if (participantProgress.isEmpty())
+        {
+            progressPerParticipant.remove(progress.getParticipant().getId());
+        }
+        TRACKED_STATISTICS.remove(progress.getStatistic());
+        return true;
     }
 
     public void setPlayerStatistic(BingoStatistic statistic, BingoParticipant player, int value)
@@ -0,0 +1,133 @@
+package io.github.steaf23.bingoreloaded.tasks.tracker;
+
+import io.github.steaf23.bingoreloaded.player.team.BingoTeam;
+import io.github.steaf23.bingoreloaded.tasks.AdvancementTask;
+import io.github.steaf23.bingoreloaded.tasks.GameTask;
+import io.github.steaf23.bingoreloaded.tasks.ItemTask;
+import io.github.steaf23.bingoreloaded.tasks.StatisticTask;
+import io.github.steaf23.bingoreloaded.tasks.TaskData;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Interns the task data of all tracked tasks, so that every distinct task only has to be matched once per event,
+ * no matter how many teams have their own copy of it on their card.
+ * Definitions are looked up by match key, which is the item material for item tasks,
+ * the advancement key for advancement tasks and the BingoStatistic for statistic tasks.
+ */
+public class TaskDefinitionRegistry
+{
+    public static class TaskDefinition
+    {
+        private final TaskData data;
+        private final Object matchKey;
+        private final Map<BingoTeam, GameTask> taskPerTeam;
+
+        private TaskDefinition(TaskData data, Object matchKey) {
+            this.data = data;
+            this.matchKey = matchKey;
+            this.taskPerTeam = new HashMap<>();
+        }
+
+        public TaskData getData() {
+            return data;
+        }
+
+        /**
+         * @return the GameTask the given team has to complete for this definition, or null if the team does not have this task on their card.
+         */
+        public @Nullable GameTask getTaskOfTeam(@Nullable BingoTeam team) {
+            return team == null ? null : taskPerTeam.get(team);
+        }
+    }
+
+    private final Map<TaskData, TaskDefinition> definitions;
+    private final Map<Object, List<TaskDefinition>> definitionsPerKey;
+
+    public TaskDefinitionRegistry() {
+        this.definitions = new HashMap<>();
+        this.definitionsPerKey = new HashMap<>();
+    }
+
+    /**
+     * Register the task as the one the given team has to complete for its task data.
+     * @return the definition of the task, or null if this task cannot be matched against events.
+     */
+    public @Nullable TaskDefinition register(@NotNull GameTask task, @NotNull BingoTeam team) {
+        Object key = matchKey(task);
+        if (key == null) {
+            return null;
+        }
+
+        TaskDefinition definition = definitions.computeIfAbsent(task.data, data -> {
+            TaskDefinition newDefinition = new TaskDefinition(data, key);
+            definitionsPerKey.computeIfAbsent(key, k -> new ArrayList<>(1)).add(newDefinition);
+            return newDefinition;
+        });
+        definition.taskPerTeam.put(team, task);
+        return definition;
+    }
+
+    /**
+     * Remove the task for every team that has it, the definition itself is removed once no team has a task for it anymore.
+     */
+    public void unregister(@NotNull GameTask task) {
+        TaskDefinition definition = definitions.get(task.data);
+        if (definition == null) {
+            return;
+        }
+
+        definition.taskPerTeam.values().removeIf(teamTask -> teamTask == task);
+        if (!definition.taskPerTeam.isEmpty()) {
+            return;
+        }
+
+        definitions.remove(task.data);
+        List<TaskDefinition> keyDefinitions = definitionsPerKey.get(definition.matchKey);
+        if (keyDefinitions != null) {
+            keyDefinitions.remove(definition);
+            if (keyDefinitions.isEmpty()) {
+                definitionsPerKey.remove(definition.matchKey);
+            }
+        }
+    }
+
+    /**
+     * @return all definitions that match on the given key.
+     * The returned list is owned by the registry, so it must not be modified while iterating over it.
+     */
+    public @NotNull List<TaskDefinition> get(@NotNull Object matchKey) {
+        return definitionsPerKey.getOrDefault(matchKey, Collections.emptyList());
+    }
+
+    public int size() {
+        return definitions.size();
+    }
+
+    public void clear() {
+        definitions.clear();
+        definitionsPerKey.clear();
+    }
+
+    /**
+     * @return the key used to match events against the given task, or null if this task cannot be matched against events.
+     */
+    public static @Nullable Object matchKey(@NotNull GameTask task) {
+        return matchKey(task.data);
+    }
+
+    public static @Nullable Object matchKey(@Nullable TaskData data) {
+        return switch (data) {
+            case ItemTask itemTask -> itemTask.material();
+            case AdvancementTask advancementTask -> advancementTask.advancement() == null ? null : advancementTask.advancement().getKey();
+            case StatisticTask statisticTask -> statisticTask.statistic();
+            case null, default -> null;
+        };
+    }
+}
@@ -7,88 +7,132 @@ import io.github.steaf23.bingoreloaded.event.BingoStatisticCompletedEvent;
 import io.github.steaf23.bingoreloaded.event.BingoTaskProgressCompletedEvent;
 import io.github.steaf23.bingoreloaded.gameloop.phase.BingoGame;
 import io.github.steaf23.bingoreloaded.player.BingoParticipant;
+import io.github.steaf23.bingoreloaded.player.team.BingoTeam;
 import io.github.steaf23.bingoreloaded.tasks.AdvancementTask;
 import io.github.steaf23.bingoreloaded.tasks.BingoStatistic;
 import io.github.steaf23.bingoreloaded.tasks.GameTask;
 import io.github.steaf23.bingoreloaded.tasks.ItemTask;
 import io.github.steaf23.bingoreloaded.tasks.StatisticTask;
-import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.advancement.AdvancementProgress;
+import org.bukkit.entity.Item;
 import org.bukkit.entity.Player;
 import org.bukkit.event.entity.EntityPickupItemEvent;
 import org.bukkit.event.inventory.ClickType;
+import org.bukkit.event.inventory.CraftItemEvent;
+import org.bukkit.event.inventory.FurnaceExtractEvent;
+import org.bukkit.event.inventory.InventoryAction;
 import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryMoveItemEvent;
 import org.bukkit.event.inventory.InventoryType;
 import org.bukkit.event.player.PlayerAdvancementDoneEvent;
 import org.bukkit.event.player.PlayerDropItemEvent;
 import org.bukkit.event.player.PlayerStatisticIncrementEvent;
+import org.bukkit.inventory.FurnaceInventory;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.function.BiFunction;
+import java.util.UUID;
 
 public class TaskProgressTracker
 {
-    public static class TaskProgress
+    /**
+     * Updates the progress of a participant on a single task.
+     */
+    @FunctionalInterface
+    private interface ProgressUpdate
     {
-        private final BingoParticipant participant;
-        private final int progressStart;
-        private int progressLeft;
+        /**
+         * @return true if the task got completed.
+         */
+        boolean update(GameTask task, TeamTaskProgress progress, int slot, int member);
+    }
 
-        public TaskProgress(BingoParticipant participant, int progressAmount) {
+    /**
+     * Inventory check waiting for the next tick, at most one exists per participant at a time.
+     */
+    private static class PendingItemCheck
+    {
+        private final Player player;
+        private final BingoParticipant participant;
+        // dropped items are no longer part of the inventory, so they have to be checked separately.
+        private final List<Item> droppedItems;
+        // materials that are known to have changed, only these have to be recounted if the inventory doesn't need a full rescan.
+        private final List<Material> changedMaterials;
+        private boolean rescanInventory;
+
+        public PendingItemCheck(Player player, BingoParticipant participant) {
+            this.player = player;
             this.participant = participant;
-            this.progressStart = progressAmount;
-            this.progressLeft = progressStart;
-        }
-
-        public boolean isDone() {
-            return progressLeft == 0;
-        }
-
-        public void addProgress(int amount) {
-            progressLeft = Math.max(0, progressLeft - amount);
-        }
-
-        public void setProgress(int amount) {
-            progressLeft = Math.max(0, progressStart - amount);
+            this.droppedItems = new ArrayList<>(0);
+            this.changedMaterials = new ArrayList<>(1);
+            this.rescanInventory = false;
         }
     }
 
     private final BingoGame game;
-    private final Map<GameTask, List<TaskProgress>> progressMap;
+    private final Map<BingoTeam, TeamTaskProgress> teamProgress;
+    private final TaskDefinitionRegistry definitions;
     private final StatisticTracker statisticTracker;
+    private final Map<UUID, InventorySnapshot> inventorySnapshots;
+    private final Map<UUID, PendingItemCheck> pendingItemChecks;
+    private boolean itemChecksScheduled;
+    private long savedItemChecks;
 
     public TaskProgressTracker(BingoGame game) {
         this.game = game;
-        this.progressMap = new HashMap<>();
+        this.teamProgress = new HashMap<>();
+        this.definitions = new TaskDefinitionRegistry();
         this.statisticTracker = new StatisticTracker();
+        this.inventorySnapshots = new HashMap<>();
+        this.pendingItemChecks = new LinkedHashMap<>();
+        this.itemChecksScheduled = false;
+        this.savedItemChecks = 0;
     }
 
+    /**
+     * Start tracking the task for every active team that has it on their card.
+     */
     public void startTrackingTask(GameTask task) {
-        progressMap.put(task, new ArrayList<>());
-        for (BingoParticipant participant : game.getTeamManager().getParticipants()) {
-            // only track progress if the participant has to complete the task.
-            TaskCard card = participant.getTeam().getCard();
-            if (card == null || !card.getTasks().contains(task)) {
-                continue;
+        // make sure we don't leave stale progress behind when a task gets tracked twice
+        stopTrackingTask(task);
+        for (BingoTeam team : game.getTeamManager().getActiveTeams()) {
+            TaskCard card = team.getCard();
+            if (card != null && card.getTasks().contains(task)) {
+                startTrackingTask(task, team);
             }
+        }
+    }
 
-            int finalCount = task.getCount();
+    /**
+     * Start tracking the task for all members of the given team.
+     * Teams that share the same task data share the same definition, so events only have to be matched once per distinct task.
+     */
+    public void startTrackingTask(GameTask task, BingoTeam team) {
+        if (definitions.register(task, team) == null) {
+            return;
+        }
+
+        // members are fixed once the team starts being tracked, players joining the team afterwards can't make progress.
+        TeamTaskProgress progress = teamProgress.computeIfAbsent(team, t ->
+                new TeamTaskProgress(t.getMembers().toArray(new BingoParticipant[0]), t.getCard() == null ? 0 : t.getCard().getTasks().size()));
+        progress.addTask(task, task.getCount());
+
+        for (int i = 0; i < progress.getMemberCount(); i++) {
+            BingoParticipant participant = progress.getMember(i);
 
             // reset any progress already made beforehand
             if (task.type == GameTask.TaskType.ADVANCEMENT) {
                 // revoke advancement from player
                 AdvancementTask advancementTask = (AdvancementTask) task.data;
                 participant.sessionPlayer().ifPresent(player -> {
-                    AdvancementProgress progress = player.getAdvancementProgress(advancementTask.advancement());
-                    progress.getAwardedCriteria().forEach(progress::revokeCriteria);
+                    AdvancementProgress advancementProgress = player.getAdvancementProgress(advancementTask.advancement());
+                    advancementProgress.getAwardedCriteria().forEach(advancementProgress::revokeCriteria);
                 });
             } else if (task.type == GameTask.TaskType.STATISTIC) {
                 StatisticTask statisticTask = (StatisticTask) task.data;
@@ -100,11 +144,20 @@ public class TaskProgressTracker
 
                 // the stat tracker will reset progress to 0 for every statistic added.
                 statisticTracker.addStatistic(statisticTask, participant);
+            } else if (task.type == GameTask.TaskType.ITEM) {
+                // No progress to reset for item tasks, but items the player already has should count,
+                // since clicking only checks materials of which the amount changed.
+                participant.sessionPlayer().ifPresent(player -> queueMaterialCheck(player, participant, task.material));
             }
-            // No progress to reset for item tasks
+        }
+    }
 
-            // add task to progress tracker
-            progressMap.get(task).add(new TaskProgress(participant, finalCount));
+    /**
+     * Check the items every participant already has for the death match task that was just picked.
+     */
+    public void startTrackingDeathMatchTask(GameTask task) {
+        for (BingoParticipant participant : game.getTeamManager().getParticipants()) {
+            participant.sessionPlayer().ifPresent(player -> queueMaterialCheck(player, participant, task.material));
         }
     }
 
@@ -117,18 +170,13 @@ public class TaskProgressTracker
         if (game.getDeathMatchTask() != null)
             return;
 
-        updateProgressFromEvent(participant, (task, progress) -> {
+        updateProgressFromEvent(participant, event.getAdvancement().getKey(), (task, progress, slot, member) -> {
             if (task.type != GameTask.TaskType.ADVANCEMENT) {
                 return false;
             }
-            AdvancementTask data = (AdvancementTask) task.data;
-
-            if (!data.advancement().getKey().equals(event.getAdvancement().getKey())) {
-                return false;
-            }
 
-            progress.addProgress(1);
-            return tryCompleteTask(task, progress);
+            progress.addContribution(slot, member, 1);
+            return progress.isMemberDone(slot, member) && tryCompleteTask(task, participant);
         });
     }
 
@@ -141,19 +189,14 @@ public class TaskProgressTracker
         if (game.getDeathMatchTask() != null)
             return;
 
-        updateProgressFromEvent(participant, (task, progress) -> {
+        updateProgressFromEvent(participant, event.getStatistic(), (task, progress, slot, member) -> {
             if (task.type != GameTask.TaskType.STATISTIC) {
                 return false;
             }
-            BingoStatistic statistic = event.getStatistic();
             StatisticTask data = (StatisticTask) task.data;
 
-            if (!data.statistic().equals(statistic)) {
-                return false;
-            }
-
-            progress.setProgress(data.getCount());
-            return tryCompleteTask(task, progress);
+            progress.setContribution(slot, member, data.getCount());
+            return progress.isMemberDone(slot, member) && tryCompleteTask(task, participant);
         });
     }
 
@@ -170,75 +213,231 @@ public class TaskProgressTracker
             return item;
         }
 
+        // The stack is not in the inventory (anymore), so it only counts on top of the items the participant has for this check.
+        int itemsToRemove = completeItemTasks(participant, item.getType(), item.getAmount(), true);
+        if (itemsToRemove > 0) {
+            int takenFromStack = Math.min(itemsToRemove, item.getAmount());
+            item.setAmount(item.getAmount() - takenFromStack);
+            participant.sessionPlayer().ifPresent(player -> {
+                if (itemsToRemove > takenFromStack) {
+                    removeItemsFromInventory(player, item.getType(), itemsToRemove - takenFromStack);
+                    InventorySnapshot snapshot = inventorySnapshots.get(participant.getId());
+                    if (snapshot != null) {
+                        snapshot.remove(item.getType(), itemsToRemove - takenFromStack);
+                    }
+                }
+                player.updateInventory();
+            });
+        }
+        return item;
+    }
+
+    /**
+     * Try to complete all item tasks of the given material, for which the participant has the given amount of items.
+     * When items are counted per team, the amounts of all team members are added together.
+     * @param extra if true, amount is added to the items the participant was last counted to have, only for this check.
+     *              Used for stacks that are not in the inventory, so the stored contribution stays equal to what the participant holds.
+     * @return amount of items that should be taken from the participant for the tasks that got completed.
+     */
+    private int completeItemTasks(BingoParticipant participant, Material material, int amount, boolean extra) {
         GameTask deathMatchTask = game.getDeathMatchTask();
         if (deathMatchTask != null) {
-            if (item.getType().equals(deathMatchTask.material)) {
+            if (amount > 0 && material.equals(deathMatchTask.material)) {
                 deathMatchTask.complete(participant, game.getGameTime());
                 var slotEvent = new BingoDeathmatchTaskCompletedEvent(participant.getSession(), deathMatchTask);
-                Bukkit.getPluginManager().callEvent(slotEvent);
+                BingoReloaded.callBingoEvent(slotEvent);
             }
-            return item;
+            return 0;
         }
 
-        Set<GameTask> tasksToRemove = new HashSet<>();
-        for (GameTask task : progressMap.keySet()) {
-            for (TaskProgress progress : progressMap.get(task)) {
-                if (!progress.participant.equals(participant)) {
-                    continue;
-                }
+        boolean countPerTeam = game.getConfig().countItemsPerTeam;
+        int[] itemsToRemove = {0};
+        updateProgressFromEvent(participant, material, (task, progress, slot, member) -> {
+            if (task.type != GameTask.TaskType.ITEM) {
+                return false;
+            }
+            ItemTask data = (ItemTask) task.data;
 
-                if (task.type != GameTask.TaskType.ITEM) {
-                    continue;
-                }
-                ItemTask data = (ItemTask) task.data;
-                if (!data.material().equals(item.getType()) || data.count() > item.getAmount()) {
-                    continue;
-                }
+            int held = progress.getContribution(slot, member);
+            int total = extra ? held + amount : amount;
+            progress.setContribution(slot, member, total);
+            boolean done = countPerTeam ? progress.isTeamDone(slot) : progress.isMemberDone(slot, member);
+            if (extra) {
+                progress.setContribution(slot, member, held);
+            }
+            if (!done || !tryCompleteTask(task, participant)) {
+                return false;
+            }
 
-                progress.setProgress(item.getAmount());
-                if (!tryCompleteTask(task, progress)) {
-                    continue;
+            if (game.getConfig().removeTaskItems) {
+                int takenFromParticipant = Math.min(total, data.getCount());
+                itemsToRemove[0] += takenFromParticipant;
+                if (countPerTeam) {
+                    removeItemsFromTeammates(progress, slot, member, material, data.getCount() - takenFromParticipant);
                 }
+            }
+            return true;
+        });
+        return itemsToRemove[0];
+    }
 
-                if (participant.sessionPlayer().isPresent()) {
-                    if (game.getConfig().removeTaskItems) {
-                        item.setAmount(item.getAmount() - data.getCount());
-                    }
-                    participant.sessionPlayer().get().updateInventory();
+    /**
+     * Take the remaining items needed for a team-counted task from the other members of the team, based on how much they contributed.
+     */
+    private void removeItemsFromTeammates(TeamTaskProgress progress, int slot, int completingMember, Material material, int amount) {
+        for (int i = 0; i < progress.getMemberCount() && amount > 0; i++) {
+            if (i == completingMember) {
+                continue;
+            }
+
+            int taken = Math.min(amount, progress.getContribution(slot, i));
+            if (taken <= 0) {
+                continue;
+            }
+
+            BingoParticipant teammate = progress.getMember(i);
+            teammate.sessionPlayer().ifPresent(player -> {
+                removeItemsFromInventory(player, material, taken);
+                player.updateInventory();
+                InventorySnapshot snapshot = inventorySnapshots.get(teammate.getId());
+                if (snapshot != null) {
+                    snapshot.remove(material, taken);
                 }
+            });
+            amount -= taken;
+        }
+    }
 
-                tasksToRemove.add(task);
+    /**
+     * Recount the inventory of the player and only check the item tasks for materials of which the total amount changed.
+     */
+    private void updateInventorySnapshot(Player player, BingoParticipant participant) {
+        if (participant.getTeam() == null || participant.getTeam().outOfTheGame) {
+            return;
+        }
+
+        InventorySnapshot snapshot = inventorySnapshots.computeIfAbsent(participant.getId(), id -> new InventorySnapshot());
+        snapshot.update(player.getInventory().getContents(), player.getItemOnCursor());
+
+        boolean inventoryChanged = false;
+        for (int i = 0; i < snapshot.getChangedCount(); i++) {
+            Material material = snapshot.getChanged(i);
+            // Also update tasks when the amount drops to 0, since the contribution to the team might have changed.
+            inventoryChanged |= updateMaterial(player, participant, snapshot, material, snapshot.getCount(material));
+        }
+
+        if (inventoryChanged) {
+            player.updateInventory();
+        }
+    }
+
+    /**
+     * Recount only the given materials in the inventory of the player, for events where we know exactly which items were gained or lost.
+     */
+    private void updateInventoryMaterials(Player player, BingoParticipant participant, List<Material> materials) {
+        if (participant.getTeam() == null || participant.getTeam().outOfTheGame) {
+            return;
+        }
+
+        InventorySnapshot snapshot = inventorySnapshots.computeIfAbsent(participant.getId(), id -> new InventorySnapshot());
+        boolean inventoryChanged = false;
+        for (Material material : materials) {
+            int amount = countItems(player, material);
+            snapshot.set(material, amount);
+            inventoryChanged |= updateMaterial(player, participant, snapshot, material, amount);
+        }
+
+        if (inventoryChanged) {
+            player.updateInventory();
+        }
+    }
+
+    /**
+     * @return true if items were taken from the inventory of the player.
+     */
+    private boolean updateMaterial(Player player, BingoParticipant participant, InventorySnapshot snapshot, Material material, int amount) {
+        int itemsToRemove = completeItemTasks(participant, material, amount, false);
+        if (itemsToRemove <= 0) {
+            return false;
+        }
+
+        removeItemsFromInventory(player, material, itemsToRemove);
+        snapshot.remove(material, itemsToRemove);
+        return true;
+    }
+
+    private static int countItems(Player player, Material material) {
+        int amount = 0;
+        ItemStack cursor = player.getItemOnCursor();
+        if (cursor.getType() == material) {
+            amount += cursor.getAmount();
+        }
+
+        for (ItemStack stack : player.getInventory().getContents()) {
+            if (stack != null && stack.getType() == material) {
+                amount += stack.getAmount();
             }
         }
+        return amount;
+    }
 
-        tasksToRemove.forEach(progressMap::remove);
+    /**
+     * Take the given amount of items from the player, starting with the cursor since that is where newly obtained items usually are.
+     */
+    private static void removeItemsFromInventory(Player player, Material material, int amount) {
+        ItemStack cursor = player.getItemOnCursor();
+        if (cursor.getType() == material) {
+            int taken = Math.min(amount, cursor.getAmount());
+            cursor.setAmount(cursor.getAmount() - taken);
+            player.setItemOnCursor(cursor);
+            amount -= taken;
+        }
 
-        updateProgressFromEvent(participant, (task, progress) -> {
-            if (task.type != GameTask.TaskType.ITEM) {
-                return false;
+        for (ItemStack stack : player.getInventory().getContents()) {
+            if (amount <= 0) {
+                return;
             }
-            ItemTask data = (ItemTask) task.data;
-            if (!data.material().equals(item.getType()) || data.count() > item.getAmount()) {
-                return false;
+            if (stack == null || stack.getType() != material) {
+                continue;
             }
 
-            progress.setProgress(item.getAmount());
-            if (!tryCompleteTask(task, progress)) {
-                return false;
-            }
+            int taken = Math.min(amount, stack.getAmount());
+            stack.setAmount(stack.getAmount() - taken);
+            amount -= taken;
+        }
+    }
 
-            participant.sessionPlayer().ifPresent(player -> {
-                if (game.getConfig().removeTaskItems) {
-                    item.setAmount(item.getAmount() - data.getCount());
-                }
-            });
+    public void handleInventoryClicked(final InventoryClickEvent event) {
+        if (!(event.getWhoClicked() instanceof Player player)) {
+            return;
+        }
 
-            return true;
-        });
-        return item;
+        BingoParticipant participant = getValidParticipant(player);
+        if (participant == null) {
+            return;
+        }
+
+        // Crafting and taking items out of a furnace have their own handlers, which know exactly which material changed.
+        // CraftItemEvent shares the handler list of InventoryClickEvent, so crafting clicks get here as well.
+        if (event instanceof CraftItemEvent ||
+                (event.getSlotType() == InventoryType.SlotType.RESULT && event.getInventory() instanceof FurnaceInventory)) {
+            return;
+        }
+
+        // Clicks on an empty slot with an empty cursor can't move any items,
+        // unless they swap the slot with a hotbar or offhand item.
+        ItemStack current = event.getCurrentItem();
+        boolean hotbarSwap = event.getClick() == ClickType.NUMBER_KEY || event.getClick() == ClickType.SWAP_OFFHAND;
+        if (event.getAction() == InventoryAction.NOTHING ||
+                (!hotbarSwap && (current == null || current.getType().isAir()) && event.getCursor().getType().isAir())) {
+            return;
+        }
+
+        // Contents are updated after this event, so we want to check which materials changed in the next tick.
+        queueItemCheck(player, participant).rescanInventory = true;
     }
 
-    public void handleInventoryClicked(final InventoryClickEvent event) {
+    public void handleCraftItem(final CraftItemEvent event) {
         if (!(event.getWhoClicked() instanceof Player player)) {
             return;
         }
@@ -248,27 +447,35 @@ public class TaskProgressTracker
             return;
         }
 
-        // player tries to grab item in inventory normally
-        if (event.getSlotType() == InventoryType.SlotType.RESULT && event.getClick() != ClickType.SHIFT_LEFT) {
-            BingoReloaded.scheduleTask(task -> {
-                ItemStack resultStack = player.getItemOnCursor();
-                completeItemSlot(resultStack, participant);
-            });
+        // Dropping the result puts it in the world instead of the inventory, it will be checked again when it gets picked up.
+        if (event.getClick() == ClickType.DROP || event.getClick() == ClickType.CONTROL_DROP) {
             return;
         }
 
-        BingoReloaded.scheduleTask(task -> {
-            // Other contents are updated, so we want to check the full inventory for task items..
-            for (ItemStack stack : player.getInventory().getContents()) {
-                if (stack != null) {
-                    completeItemSlot(stack, participant);
-                }
-            }
+        // Only the result can end up in the player's inventory, crafting grid ingredients are not part of it.
+        queueMaterialCheck(player, participant, event.getRecipe().getResult().getType());
+    }
 
-            // Sometimes item changes are not recorded instantly for some reason, so double check if the cursor item can be completed as a task.
-            ItemStack stack = player.getItemOnCursor();
-            completeItemSlot(stack, participant);
-        });
+    public void handleFurnaceExtract(final FurnaceExtractEvent event) {
+        BingoParticipant participant = getValidParticipant(event.getPlayer());
+        if (participant == null) {
+            return;
+        }
+
+        queueMaterialCheck(event.getPlayer(), participant, event.getItemType());
+    }
+
+    public void handleInventoryMoveItem(final InventoryMoveItemEvent event) {
+        if (event.getDestination().getType() != InventoryType.PLAYER || !(event.getDestination().getHolder() instanceof Player player)) {
+            return;
+        }
+
+        BingoParticipant participant = getValidParticipant(player);
+        if (participant == null) {
+            return;
+        }
+
+        queueMaterialCheck(player, participant, event.getItem().getType());
     }
 
     public void handlePlayerPickupItem(final EntityPickupItemEvent event) {
@@ -284,7 +491,10 @@ public class TaskProgressTracker
         ItemStack stack = event.getItem().getItemStack();
         int amount = stack.getAmount();
         stack = completeItemSlot(stack, participant);
-        if (amount != stack.getAmount()) {
+        if (amount == stack.getAmount()) {
+            // The picked up items might complete a task together with the items already in the inventory.
+            queueMaterialCheck(player, participant, stack.getType());
+        } else {
             event.setCancelled(true);
             ItemStack resultStack = stack.clone();
             event.getItem().setItemStack(stack);
@@ -293,10 +503,10 @@ public class TaskProgressTracker
                 return;
             }
 
-            BingoReloaded.scheduleTask(task -> {
+            BingoReloaded.getScheduler().runAtEntity(event.getItem(), task -> {
                 participant.sessionPlayer().ifPresent(p -> p.getWorld().dropItem(event.getItem().getLocation(), resultStack));
                 event.getItem().remove();
-            });
+            }, 0);
         }
     }
 
@@ -306,29 +516,115 @@ public class TaskProgressTracker
             return;
         }
 
-        BingoReloaded.scheduleTask(task -> {
-            ItemStack stack = event.getItemDrop().getItemStack();
-            stack = completeItemSlot(stack, participant);
-        });
+        PendingItemCheck check = queueMaterialCheck(event.getPlayer(), participant, event.getItemDrop().getItemStack().getType());
+        check.droppedItems.add(event.getItemDrop());
+    }
+
+    /**
+     * Schedule a recount of the given material for the participant in the next tick.
+     */
+    private PendingItemCheck queueMaterialCheck(Player player, BingoParticipant participant, Material material) {
+        PendingItemCheck check = queueItemCheck(player, participant);
+        if (!check.changedMaterials.contains(material)) {
+            check.changedMaterials.add(material);
+        }
+        return check;
+    }
+
+    /**
+     * Schedule an inventory check for the participant in the next tick.
+     * Multiple events for the same participant in a single tick are merged into one check.
+     */
+    private PendingItemCheck queueItemCheck(Player player, BingoParticipant participant) {
+        PendingItemCheck check = pendingItemChecks.get(participant.getId());
+        if (check != null) {
+            savedItemChecks++;
+            return check;
+        }
+
+        check = new PendingItemCheck(player, participant);
+        pendingItemChecks.put(participant.getId(), check);
+        if (!itemChecksScheduled) {
+            itemChecksScheduled = true;
+            BingoReloaded.scheduleTask(task -> runPendingItemChecks());
+        }
+        return check;
     }
 
-    public void updateStatisticProgress() {
-        statisticTracker.updateProgress();
+    private void runPendingItemChecks() {
+        itemChecksScheduled = false;
+        runItemChecks();
+    }
+
+    /**
+     * Run the item checks that were queued in this tick right away, instead of in the next tick (used by /bingotest benchmark).
+     * The scheduled run still happens, but only checks what got queued after this.
+     */
+    public void flushItemChecks() {
+        runItemChecks();
+    }
+
+    private void runItemChecks() {
+        // Completing tasks can queue new checks, those will be run in the tick after.
+        List<PendingItemCheck> checks = new ArrayList<>(pendingItemChecks.values());
+        pendingItemChecks.clear();
+
+        for (PendingItemCheck check : checks) {
+            if (getValidParticipant(check.player) == null) {
+                continue;
+            }
+
+            if (check.rescanInventory) {
+                updateInventorySnapshot(check.player, check.participant);
+            } else if (!check.changedMaterials.isEmpty()) {
+                updateInventoryMaterials(check.player, check.participant, check.changedMaterials);
+            }
+            for (Item item : check.droppedItems) {
+                completeItemSlot(item.getItemStack(), check.participant);
+            }
+        }
+    }
+
+    /**
+     * @return amount of inventory checks that were merged into an already pending check.
+     */
+    public long getSavedItemChecks() {
+        return savedItemChecks;
+    }
+
+    /**
+     * Let the statistic tracker know this participant might have made progress on travel statistics.
+     */
+    public void markParticipantMoved(UUID participantId) {
+        statisticTracker.markParticipantDirty(participantId);
+    }
+
+    public boolean tracksTravelStatistics() {
+        return statisticTracker.hasTravelStatistics();
+    }
+
+    /**
+     * Stop tracking statistics for this game, so increments for them are no longer let through by the shared statistic filter.
+     */
+    public void stopTrackingStatistics() {
+        statisticTracker.reset();
     }
 
     public void removeTask(GameTask task) {
-        progressMap.remove(task);
+        stopTrackingTask(task);
         if (task.type == GameTask.TaskType.STATISTIC) {
             statisticTracker.removeStatistic((StatisticTask) task.data);
         }
     }
 
-    private boolean tryCompleteTask(GameTask task, TaskProgress progress) {
-        if (!progress.isDone()) {
-            return false;
+    private void stopTrackingTask(GameTask task) {
+        for (TeamTaskProgress progress : teamProgress.values()) {
+            progress.removeTask(task);
         }
+        definitions.unregister(task);
+    }
 
-        BingoParticipant player = progress.participant;
+    private boolean tryCompleteTask(GameTask task, BingoParticipant player) {
         if (!(player.getSession().getPhase() instanceof BingoGame)) {
             return false;
         }
@@ -341,7 +637,7 @@ public class TaskProgressTracker
         }
 
         var progressCompletedEvent = new BingoTaskProgressCompletedEvent(player.getSession(), task);
-        Bukkit.getPluginManager().callEvent(progressCompletedEvent);
+        BingoReloaded.callBingoEvent(progressCompletedEvent);
         return true;
     }
 
@@ -385,24 +681,39 @@ public class TaskProgressTracker
     }
 
     /**
-     * update progress for given participant about the task given by the updateFunction, using the task's existing progress
+     * update progress for given participant about the tasks matching the given key (see TaskDefinitionRegistry), using the team's existing progress.
+     * Each matching task definition is visited once and resolved to the GameTask of the participant's team.
      * When the update function returns true the task is considered completed and will be removed from the tracker.
      */
-    private void updateProgressFromEvent(BingoParticipant participant, BiFunction<GameTask, TaskProgress, Boolean> updateFunction) {
-        Set<GameTask> tasksToRemove = new HashSet<>();
-        for (GameTask task : progressMap.keySet()) {
-            List<TaskProgress> progressList = progressMap.get(task);
-            for (TaskProgress progress : progressMap.get(task)) {
-                if (!progress.participant.equals(participant)) {
-                    continue;
-                }
+    private void updateProgressFromEvent(BingoParticipant participant, Object matchKey, ProgressUpdate updateFunction) {
+        BingoTeam team = participant.getTeam();
+        TeamTaskProgress progress = team == null ? null : teamProgress.get(team);
+        if (progress == null) {
+            return;
+        }
+        int member = progress.getMemberIndex(participant.getId());
+        if (member < 0) {
+            return;
+        }
+
+        List<GameTask> tasksToRemove = null;
+        for (TaskDefinitionRegistry.TaskDefinition definition : definitions.get(matchKey)) {
+            GameTask task = definition.getTaskOfTeam(team);
+            int slot = task == null ? -1 : progress.getSlot(task);
+            if (slot < 0) {
+                continue;
+            }
 
-                if (updateFunction.apply(task, progress)) {
-                    tasksToRemove.add(task);
+            if (updateFunction.update(task, progress, slot, member)) {
+                if (tasksToRemove == null) {
+                    tasksToRemove = new ArrayList<>();
                 }
+                tasksToRemove.add(task);
             }
         }
 
-        tasksToRemove.forEach(progressMap::remove);
+        if (tasksToRemove != null) {
+            tasksToRemove.forEach(this::stopTrackingTask);
+        }
     }
 }
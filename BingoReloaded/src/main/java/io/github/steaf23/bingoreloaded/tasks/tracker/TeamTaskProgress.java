@@ -0,0 +1,155 @@
+package io.github.steaf23.bingoreloaded.tasks.tracker;
+
+import io.github.steaf23.bingoreloaded.player.BingoParticipant;
+import io.github.steaf23.bingoreloaded.tasks.GameTask;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Progress of a single team on all of its tracked tasks.
+ * Each task gets a slot, with the required amount stored per slot and the contribution of each member
+ * stored in one flat int array (slot * member count + member index), instead of a progress object per member per task.
+ * Members are fixed when the team starts being tracked, so players joining later don't make progress, just like before.
+ */
+public class TeamTaskProgress
+{
+    private final BingoParticipant[] members;
+    private final UUID[] memberIds;
+    private final Map<GameTask, Integer> slots;
+
+    private int[] required;
+    private int[] contributions;
+    private int[] freeSlots;
+    private int freeSlotCount;
+    private int slotCount;
+
+    public TeamTaskProgress(@NotNull BingoParticipant[] members, int initialTaskCount) {
+        this.members = members;
+        this.memberIds = new UUID[members.length];
+        for (int i = 0; i < members.length; i++) {
+            memberIds[i] = members[i].getId();
+        }
+        this.slots = new HashMap<>();
+
+        int capacity = Math.max(1, initialTaskCount);
+        this.required = new int[capacity];
+        this.contributions = new int[capacity * members.length];
+        this.freeSlots = new int[capacity];
+        this.freeSlotCount = 0;
+        this.slotCount = 0;
+    }
+
+    /**
+     * Start tracking the given task for this team, resetting any progress made on it before.
+     * @return slot of the task.
+     */
+    public int addTask(@NotNull GameTask task, int requiredAmount) {
+        Integer existing = slots.get(task);
+        int slot;
+        if (existing != null) {
+            slot = existing;
+        } else if (freeSlotCount > 0) {
+            slot = freeSlots[--freeSlotCount];
+        } else {
+            slot = slotCount++;
+            if (slot >= required.length) {
+                int capacity = required.length * 2;
+                required = Arrays.copyOf(required, capacity);
+                contributions = Arrays.copyOf(contributions, capacity * members.length);
+                freeSlots = Arrays.copyOf(freeSlots, capacity);
+            }
+        }
+
+        slots.put(task, slot);
+        required[slot] = requiredAmount;
+        Arrays.fill(contributions, slot * members.length, (slot + 1) * members.length, 0);
+        return slot;
+    }
+
+    /**
+     * @return true if the task was tracked for this team.
+     */
+    public boolean removeTask(@NotNull GameTask task) {
+        Integer slot = slots.remove(task);
+        if (slot == null) {
+            return false;
+        }
+
+        freeSlots[freeSlotCount++] = slot;
+        return true;
+    }
+
+    /**
+     * @return slot of the given task, or -1 if it's not tracked for this team.
+     */
+    public int getSlot(@NotNull GameTask task) {
+        Integer slot = slots.get(task);
+        return slot == null ? -1 : slot;
+    }
+
+    /**
+     * @return index of the member with the given id, or -1 if they are not tracked as a member of this team.
+     */
+    public int getMemberIndex(@NotNull UUID memberId) {
+        for (int i = 0; i < memberIds.length; i++) {
+            if (memberIds[i].equals(memberId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public int getMemberCount() {
+        return members.length;
+    }
+
+    public BingoParticipant getMember(int member) {
+        return members[member];
+    }
+
+    public void addContribution(int slot, int member, int amount) {
+        contributions[slot * members.length + member] += amount;
+    }
+
+    public void setContribution(int slot, int member, int amount) {
+        contributions[slot * members.length + member] = amount;
+    }
+
+    public int getContribution(int slot, int member) {
+        return contributions[slot * members.length + member];
+    }
+
+    public int getRequired(int slot) {
+        return required[slot];
+    }
+
+    /**
+     * @return true if the given member completed the task in this slot by themselves.
+     */
+    public boolean isMemberDone(int slot, int member) {
+        return getContribution(slot, member) >= required[slot];
+    }
+
+    /**
+     * @return sum of all contributions of the team to the task in this slot.
+     */
+    public int getTeamTotal(int slot) {
+        int total = 0;
+        int start = slot * members.length;
+        for (int i = start; i < start + members.length; i++) {
+            total += contributions[i];
+        }
+        return total;
+    }
+
+    /**
+     * @return true if the members of the team completed the task in this slot together.
+     */
+    public boolean isTeamDone(int slot) {
+        return getTeamTotal(slot) >= required[slot];
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.steaf23.bingoreloaded.tasks.tracker;
+
+import io.github.steaf23.bingoreloaded.tasks.BingoStatistic;
+import org.bukkit.Material;
+import org.bukkit.Statistic;
+import org.bukkit.entity.EntityType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Keeps count of which statistics are tracked by any game, indexed by Statistic ordinal and by the ordinal of the entity or material sub-key.
+ * Used to drop statistic increments that no game is interested in, before doing any other work.
+ * Counts are used instead of single bits, so that multiple games can track the same statistic at once.
+ */
+public class TrackedStatistics
+{
+    private static final int SUB_KEY_COUNT = Math.max(Material.values().length, EntityType.values().length);
+
+    private final int[] statisticCounts;
+    // Only allocated for statistics that have been tracked with an entity or material.
+    private final int[][] subKeyCounts;
+
+    public TrackedStatistics() {
+        this.statisticCounts = new int[Statistic.values().length];
+        this.subKeyCounts = new int[Statistic.values().length][];
+    }
+
+    public void add(@NotNull BingoStatistic statistic) {
+        int ordinal = statistic.stat().ordinal();
+        statisticCounts[ordinal]++;
+
+        int subKey = subKey(statistic.entityType(), statistic.materialType());
+        if (subKey >= 0) {
+            if (subKeyCounts[ordinal] == null) {
+                subKeyCounts[ordinal] = new int[SUB_KEY_COUNT];
+            }
+            subKeyCounts[ordinal][subKey]++;
+        }
+    }
+
+    public void remove(@NotNull BingoStatistic statistic) {
+        int ordinal = statistic.stat().ordinal();
+        statisticCounts[ordinal] = Math.max(0, statisticCounts[ordinal] - 1);
+
+        int subKey = subKey(statistic.entityType(), statistic.materialType());
+        if (subKey >= 0 && subKeyCounts[ordinal] != null) {
+            subKeyCounts[ordinal][subKey] = Math.max(0, subKeyCounts[ordinal][subKey] - 1);
+        }
+    }
+
+    /**
+     * @return true if any game tracks the given statistic, with the given sub-key if present.
+     */
+    public boolean isTracked(@NotNull Statistic statistic, @Nullable EntityType entityType, @Nullable Material materialType) {
+        int ordinal = statistic.ordinal();
+        if (statisticCounts[ordinal] == 0) {
+            return false;
+        }
+
+        int subKey = subKey(entityType, materialType);
+        if (subKey < 0) {
+            return true;
+        }
+
+        int[] counts = subKeyCounts[ordinal];
+        return counts != null && counts[subKey] > 0;
+    }
+
+    private static int subKey(@Nullable EntityType entityType, @Nullable Material materialType) {
+        if (materialType != null) {
+            return materialType.ordinal();
+        }
+        if (entityType != null) {
+            return entityType.ordinal();
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,43 @@
+package io.github.steaf23.bingoreloaded.util.scheduler;
+
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Consumer;
+
+/**
+ * Schedules work for the plugin without depending on how the server divides its work over threads.
+ * Global tasks are for work that is not bound to any world, like timers.
+ * Entity tasks follow the entity around and location tasks run where the location is ticked,
+ * such that they can safely access the entity or blocks respectively.
+ * For now all tasks except async tasks run on the main thread (see PaperScheduler).
+ * Sessions and task trackers share state between all players, so running entity or location tasks on other threads
+ * (like Folia's region threads) is only possible once that state has been split up per region.
+ * All delays and periods are in ticks.
+ */
+public interface BingoScheduler
+{
+    SchedulerTask runGlobal(@NotNull Consumer<SchedulerTask> task, long delay);
+
+    SchedulerTask runGlobalTimer(@NotNull Runnable task, long delay, long period);
+
+    /**
+     * @return the scheduled task, or a cancelled task if the entity was removed before the task could be scheduled.
+     */
+    SchedulerTask runAtEntity(@NotNull Entity entity, @NotNull Consumer<SchedulerTask> task, long delay);
+
+    SchedulerTask runAtLocation(@NotNull Location location, @NotNull Consumer<SchedulerTask> task, long delay);
+
+    /**
+     * Run the task as soon as possible on a thread that is not ticking the server, it must not access the world or any entity.
+     */
+    SchedulerTask runAsync(@NotNull Runnable task);
+
+    void cancelAll();
+
+    static BingoScheduler create(@NotNull Plugin plugin) {
+        return new PaperScheduler(plugin);
+    }
+}
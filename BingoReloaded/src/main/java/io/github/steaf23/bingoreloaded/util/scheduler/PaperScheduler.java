@@ -0,0 +1,68 @@
+package io.github.steaf23.bingoreloaded.util.scheduler;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Consumer;
+
+/**
+ * Runs every task on the main thread using the BukkitScheduler, except for async tasks.
+ */
+public class PaperScheduler implements BingoScheduler
+{
+    private record Task(BukkitTask task) implements SchedulerTask
+    {
+        @Override
+        public void cancel() {
+            task.cancel();
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return task.isCancelled();
+        }
+    }
+
+    private final Plugin plugin;
+
+    public PaperScheduler(@NotNull Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public SchedulerTask runGlobal(@NotNull Consumer<SchedulerTask> task, long delay) {
+        if (delay <= 0) {
+            return new Task(Bukkit.getScheduler().runTask(plugin, t -> task.accept(new Task(t))));
+        }
+        return new Task(Bukkit.getScheduler().runTaskLater(plugin, t -> task.accept(new Task(t)), delay));
+    }
+
+    @Override
+    public SchedulerTask runGlobalTimer(@NotNull Runnable task, long delay, long period) {
+        return new Task(Bukkit.getScheduler().runTaskTimer(plugin, task, Math.max(0, delay), period));
+    }
+
+    @Override
+    public SchedulerTask runAtEntity(@NotNull Entity entity, @NotNull Consumer<SchedulerTask> task, long delay) {
+        return runGlobal(task, delay);
+    }
+
+    @Override
+    public SchedulerTask runAtLocation(@NotNull Location location, @NotNull Consumer<SchedulerTask> task, long delay) {
+        return runGlobal(task, delay);
+    }
+
+    @Override
+    public SchedulerTask runAsync(@NotNull Runnable task) {
+        return new Task(Bukkit.getScheduler().runTaskAsynchronously(plugin, task));
+    }
+
+    @Override
+    public void cancelAll() {
+        Bukkit.getScheduler().cancelTasks(plugin);
+    }
+}
@@ -0,0 +1,11 @@
+package io.github.steaf23.bingoreloaded.util.scheduler;
+
+/**
+ * Handle to a task scheduled using a BingoScheduler, regardless of which server software it was scheduled on.
+ */
+public interface SchedulerTask
+{
+    void cancel();
+
+    boolean isCancelled();
+}
@@ -7,7 +7,6 @@ import io.github.steaf23.bingoreloaded.gameloop.BingoSession;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.TextDecoration;
-import org.bukkit.Bukkit;
 
 public class CountdownTimer extends GameTimer
 {
@@ -56,7 +55,7 @@ public class CountdownTimer extends GameTimer
         if (getTime() <= 0)
         {
             CountdownTimerFinishedEvent event = new CountdownTimerFinishedEvent(session, this);
-            Bukkit.getPluginManager().callEvent(event);
+            BingoReloaded.callBingoEvent(event);
             stop();
         }
     }
@@ -1,10 +1,9 @@
 package io.github.steaf23.bingoreloaded.util.timer;
 
 import io.github.steaf23.bingoreloaded.BingoReloaded;
+import io.github.steaf23.bingoreloaded.util.scheduler.SchedulerTask;
 import io.github.steaf23.playerdisplay.util.ConsoleMessenger;
 import net.kyori.adventure.text.Component;
-import org.bukkit.Bukkit;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -14,7 +13,7 @@ public abstract class GameTimer
 {
     private final List<Consumer<Long>> notifiers;
     private long time;
-    private BukkitTask task;
+    private SchedulerTask task;
 
     public abstract Component getTimeDisplayMessage(boolean asSeconds);
     public abstract int getStartDelay();
@@ -31,7 +30,7 @@ public abstract class GameTimer
     public void start()
     {
         stop();
-        this.task = Bukkit.getScheduler().runTaskTimer(BingoReloaded.getPlugin(BingoReloaded.class), () -> {
+        this.task = BingoReloaded.getScheduler().runGlobalTimer(() -> {
             updateTime(time + getStep());
         }, getStartDelay(), getUpdateInterval());
 